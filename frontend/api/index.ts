@@ -3,6 +3,7 @@ import type {
   AuthRequest,
   DoctorInformation,
   PatientInformation,
+  PatientPage,
   PostNewPatientRequest,
 } from "../src/types";
 
@@ -14,9 +15,25 @@ export const axiosInstance = axios.create({
 });
 
 export const getAllPatients = async (): Promise<PatientInformation[]> => {
-  const response: AxiosResponse<PatientInformation[]> =
-    await axiosInstance.get("/patient/");
-  console.table(response);
+  const patients: PatientInformation[] = [];
+  let cursor: string | undefined;
+  do {
+    const page = await getPatientsPage(cursor, 500);
+    patients.push(...page.patients);
+    cursor = page.nextCursor ?? undefined;
+  } while (cursor);
+  return patients;
+};
+
+export const getPatientsPage = async (
+  cursor?: string,
+  size = 50,
+  sort: "id" | "lastName" = "id",
+): Promise<PatientPage> => {
+  const response: AxiosResponse<PatientPage> = await axiosInstance.get(
+    "/patient/",
+    { params: { cursor, size, sort } },
+  );
   if (response.status !== 200) {
     throw new Error("An error has occurred while fetching the data");
   }
@@ -9,6 +9,13 @@ export type PatientInformation = {
   allergies?: string;
 };
 
+export type PatientPage = {
+  patients: PatientInformation[];
+  size: number;
+  sort: string;
+  nextCursor: string | null;
+};
+
 export type PatientInformationWithMethods = PatientInformation & {
   handleOpen: () => void;
   handleDoctors: () => void;
@@ -0,0 +1,64 @@
+package com.mattevaitcs.hospital_management.benchmarks;
+
+import com.mattevaitcs.hospital_management.entities.Appointment;
+import com.mattevaitcs.hospital_management.entities.Doctor;
+import com.mattevaitcs.hospital_management.entities.Patient;
+import com.mattevaitcs.hospital_management.entities.enums.BiologicalSex;
+import com.mattevaitcs.hospital_management.entities.enums.Status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/* Deterministic entities shared by the suites so runs are comparable across commits. */
+final class Fixtures {
+    private static final BiologicalSex[] SEXES = BiologicalSex.values();
+
+    private Fixtures() {
+    }
+
+    static Patient patient(long id) {
+        return new Patient(
+                id,
+                "First" + id,
+                "Last" + id,
+                LocalDate.of(1950, 1, 1).plusDays(id % 20000),
+                SEXES[(int) (id % SEXES.length)],
+                "907272" + String.format("%04d", id % 10000),
+                id + " Benchmark Street",
+                List.of("penicillin", "latex", "peanuts"),
+                null, null
+        );
+    }
+
+    static Doctor doctor(long id, int patientCount) {
+        Doctor doctor = Doctor.builder()
+                .id(id)
+                .firstName("Doc" + id)
+                .lastName("Tor" + id)
+                .department("Cardiology")
+                .phone("9075550000")
+                .specialization("Cardiologist")
+                .build();
+        List<Patient> patients = new ArrayList<>(patientCount);
+        for (int i = 0; i < patientCount; i++) {
+            Patient patient = patient(i);
+            patient.setPrimaryDoctor(doctor);
+            patients.add(patient);
+        }
+        doctor.setPrimaryPatients(patients);
+        return doctor;
+    }
+
+    static Appointment appointment(long id) {
+        return Appointment.builder()
+                .id(id)
+                .patient(patient(id))
+                .doctor(doctor(id, 0))
+                .date(LocalDate.of(2026, 1, 1))
+                .time(LocalTime.of(9, 30))
+                .status(Status.BOOKED)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.mattevaitcs.hospital_management.benchmarks;
+
+import com.mattevaitcs.hospital_management.entities.UserCredential;
+import com.mattevaitcs.hospital_management.entities.enums.HospitalRole;
+import com.mattevaitcs.hospital_management.services.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmarks {
+    /* Benchmark-only HMAC key, at least 256 bits as jjwt requires for HS256. */
+    private static final String SECRET = "YmVuY2htYXJrLW9ubHktc2VjcmV0LWtleS1mb3ItaG1hYy1zaGEyNTYtc2lnbmluZw==";
+
+    private JwtService jwtService;
+    private UserCredential userCredential;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        userCredential = UserCredential.builder()
+                .email("bench@hospital.test")
+                .password("unused")
+                .role(HospitalRole.STAFF)
+                .build();
+        jwtService = new JwtService(email -> userCredential);
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", SECRET);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        token = jwtService.generateToken(userCredential.getEmail());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userCredential.getEmail());
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token, userCredential);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mattevaitcs.hospital_management.benchmarks;
+
+import com.mattevaitcs.hospital_management.dtos.AppointmentInformation;
+import com.mattevaitcs.hospital_management.dtos.DoctorInformation;
+import com.mattevaitcs.hospital_management.dtos.PatientInformation;
+import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
+import com.mattevaitcs.hospital_management.entities.Appointment;
+import com.mattevaitcs.hospital_management.entities.Doctor;
+import com.mattevaitcs.hospital_management.entities.Patient;
+import com.mattevaitcs.hospital_management.utils.mappers.AppointmentMapper;
+import com.mattevaitcs.hospital_management.utils.mappers.DoctorMapper;
+import com.mattevaitcs.hospital_management.utils.mappers.PatientMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmarks {
+    /* Doctor list size; the 1000 case mirrors a doctor with a full primary panel. */
+    @Param({"10", "1000"})
+    private int primaryPatients;
+
+    private Patient patient;
+    private PatientInformation patientInformation;
+    private PostNewPatientRequest newPatientRequest;
+    private Doctor doctor;
+    private Appointment appointment;
+
+    @Setup
+    public void setUp() {
+        patient = Fixtures.patient(42);
+        patientInformation = PatientMapper.toDto(patient);
+        newPatientRequest = new PostNewPatientRequest(
+                "John",
+                "Doe",
+                LocalDate.of(1999, 1, 1),
+                "Male",
+                "9072728359",
+                "123 String St",
+                "penicillin,latex,peanuts"
+        );
+        doctor = Fixtures.doctor(7, primaryPatients);
+        appointment = Fixtures.appointment(99);
+    }
+
+    @Benchmark
+    public PatientInformation patientToDto() {
+        return PatientMapper.toDto(patient);
+    }
+
+    @Benchmark
+    public Patient patientRequestToEntity() {
+        return PatientMapper.toEntity(newPatientRequest);
+    }
+
+    @Benchmark
+    public Patient patientInformationToEntity() {
+        return PatientMapper.toEntity(patientInformation);
+    }
+
+    @Benchmark
+    public DoctorInformation doctorToDto() {
+        return DoctorMapper.toDto(doctor);
+    }
+
+    @Benchmark
+    public AppointmentInformation appointmentToDto() {
+        return AppointmentMapper.toDto(appointment);
+    }
+}
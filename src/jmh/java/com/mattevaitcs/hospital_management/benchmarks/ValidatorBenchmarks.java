@@ -0,0 +1,49 @@
+package com.mattevaitcs.hospital_management.benchmarks;
+
+import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
+import com.mattevaitcs.hospital_management.utils.validators.StringToArray;
+import com.mattevaitcs.hospital_management.utils.validators.StringToArrayValidator;
+import com.mattevaitcs.hospital_management.utils.validators.ValueOfEnum;
+import com.mattevaitcs.hospital_management.utils.validators.ValueOfEnumValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmarks {
+    private ValueOfEnumValidator valueOfEnumValidator;
+    private StringToArrayValidator stringToArrayValidator;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        /* Initialised from the real request annotations so the benchmark tracks their configuration. */
+        valueOfEnumValidator = new ValueOfEnumValidator();
+        valueOfEnumValidator.initialize(PostNewPatientRequest.class
+                .getDeclaredField("biologicalSex")
+                .getAnnotation(ValueOfEnum.class));
+        stringToArrayValidator = new StringToArrayValidator();
+        stringToArrayValidator.initialize(PostNewPatientRequest.class
+                .getDeclaredField("allergies")
+                .getAnnotation(StringToArray.class));
+    }
+
+    @Benchmark
+    public boolean valueOfEnumAccepted() {
+        return valueOfEnumValidator.isValid("Female", null);
+    }
+
+    @Benchmark
+    public boolean valueOfEnumRejected() {
+        return valueOfEnumValidator.isValid("unknown", null);
+    }
+
+    @Benchmark
+    public boolean stringToArray() {
+        return stringToArrayValidator.isValid("penicillin,latex,peanuts,shellfish,aspirin", null);
+    }
+}
@@ -8,16 +8,20 @@ import com.mattevaitcs.hospital_management.entities.enums.BiologicalSex;
 import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
 import com.mattevaitcs.hospital_management.repositories.PatientRepository;
 import com.mattevaitcs.hospital_management.services.UserCredentialService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+@Slf4j
 @SpringBootApplication
 public class HospitalManagementApplication implements CommandLineRunner {
 
@@ -30,20 +34,21 @@ public class HospitalManagementApplication implements CommandLineRunner {
     @Autowired
     private UserCredentialService userCredentialService;
 
+    @Autowired
+    private Environment environment;
+
 	public static void main(String[] args) {
 		SpringApplication.run(HospitalManagementApplication.class, args);
 	}
 
     @Override
     public void run(String... args) throws Exception {
+        // SyntheticDataGenerator owns the data set under the loadtest profile
+        if(environment.acceptsProfiles(Profiles.of("loadtest"))) {
+            return;
+        }
         if(patientRepository.count() > 0) {
-            System.out.println("Patients already exist in the database. Skipping data generation.");
-
-            patientRepository.findAllByDobOrderByLnameAsc(LocalDate.of(1981, 5, 19
-            )).forEach(System.out::println);
-
-            patientRepository.searchByName("L").forEach(System.out::println);
-
+            log.info("Patients already exist in the database. Skipping data generation.");
             return;
         }
         List<String> specializations = new ArrayList<>(List.of(
@@ -109,11 +114,10 @@ public class HospitalManagementApplication implements CommandLineRunner {
                     null
             );
             patients.add(patient);
-            System.out.println(patient);
         }
         doctorRepository.saveAll(doctors);
         patientRepository.saveAll(patients);
-        System.out.println("Sample patients generated and saved to the database.");
+        log.info("Generated {} sample doctors and {} sample patients.", doctors.size(), patients.size());
         AuthRequest request = new AuthRequest("admin@horrorcore.com", "Gudmord92!");
         userCredentialService.createUserCredentials(request);
     }
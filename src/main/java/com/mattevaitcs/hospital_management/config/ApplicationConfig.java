@@ -1,23 +1,47 @@
 package com.mattevaitcs.hospital_management.config;
 
+import com.mattevaitcs.hospital_management.entities.UserCredential;
 import com.mattevaitcs.hospital_management.repositories.UserCredentialRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
     private final UserCredentialRepository userCredentialRepository;
 
+    @Value("${security.password-hashing.strength:10}")
+    private int passwordHashingStrength;
+
+    @Value("${security.password-hashing.threads:2}")
+    private int passwordHashingThreads;
+
+    @Value("${security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${security.password-hashing.retry-after-seconds:2}")
+    private long passwordHashingRetryAfterSeconds;
+
+    @Value("${security.login-cache.ttl-seconds:60}")
+    private long loginCacheTtlSeconds;
+
+    @Value("${security.login-cache.max-size:10000}")
+    private int loginCacheMaxSize;
+
     @Bean
     public UserDetailsService userDetailsService() {
         return username -> userCredentialRepository
@@ -27,16 +51,38 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        PasswordEncoder boundedEncoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(passwordHashingStrength),
+                passwordHashingThreads,
+                passwordHashingQueueCapacity,
+                passwordHashingRetryAfterSeconds,
+                meterRegistry
+        );
+        return new CachingPasswordEncoder(
+                boundedEncoder,
+                Duration.ofSeconds(loginCacheTtlSeconds).toMillis(),
+                loginCacheMaxSize
+        );
+    }
+
+    // Rehashes a stored password on login whenever its BCrypt cost is below the configured strength
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            UserCredential userCredential = (UserCredential) user;
+            userCredential.setPassword(newPassword);
+            return userCredentialRepository.save(userCredential);
+        };
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(
                 userDetailsService()
         );
-        authenticationProvider.setPasswordEncoder(passwordEncoder());
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authenticationProvider;
     }
 
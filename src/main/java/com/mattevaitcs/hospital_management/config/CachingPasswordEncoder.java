@@ -0,0 +1,95 @@
+package com.mattevaitcs.hospital_management.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Remembers successful password verifications for a short time so that an
+ * account logging in repeatedly does not pay for a full BCrypt check each time.
+ * The key is an HMAC of the raw password and the stored hash under a random
+ * per-process salt, so neither value is kept in memory and a changed or
+ * rehashed password never matches an old entry. Failed checks are not cached.
+ */
+public class CachingPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private final PasswordEncoder delegate;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final SecretKeySpec salt;
+    private final Map<String, Long> verifiedUntil = new ConcurrentHashMap<>();
+
+    public CachingPasswordEncoder(PasswordEncoder delegate, long ttlMillis, int maxSize) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        byte[] saltBytes = new byte[32];
+        new SecureRandom().nextBytes(saltBytes);
+        this.salt = new SecretKeySpec(saltBytes, "HmacSHA256");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if(rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        long now = System.currentTimeMillis();
+        String key = digest(rawPassword, encodedPassword);
+        Long until = verifiedUntil.get(key);
+        if(until != null && until > now) {
+            return true;
+        }
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        if(matches) {
+            remember(key, now + ttlMillis, now);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if(delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private void remember(String key, long until, long now) {
+        if(verifiedUntil.size() >= maxSize) {
+            verifiedUntil.values().removeIf(expiry -> expiry <= now);
+            if(verifiedUntil.size() >= maxSize) {
+                return;
+            }
+        }
+        verifiedUntil.put(key, until);
+    }
+
+    private String digest(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(salt);
+            mac.update(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
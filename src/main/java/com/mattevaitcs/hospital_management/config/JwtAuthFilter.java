@@ -2,12 +2,16 @@ package com.mattevaitcs.hospital_management.config;
 
 import com.mattevaitcs.hospital_management.entities.UserCredential;
 import com.mattevaitcs.hospital_management.services.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,12 +19,23 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    /*
+     * When enabled the principal and authorities come straight from the verified
+     * subject and role claims, so no UserCredential is loaded per request.
+     */
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -30,30 +45,79 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt, email;
+        final Claims claims;
 
         if(authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        if(SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         jwt = authHeader.substring(7);
 
-        email = jwtService.extractEmail(jwt);
+        VerifiedTokenCache.VerifiedToken verifiedToken = verifiedTokenCache.get(jwt);
+        if(verifiedToken != null) {
+            if(!tokenRevocationList.isRevoked(verifiedToken.email(), verifiedToken.issuedAtMillis())) {
+                authenticate(request, verifiedToken.email(), verifiedToken.authorities());
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        claims = jwtService.extractAllClaims(jwt);
+        email = claims.getSubject();
 
-        if(email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if(email == null || tokenRevocationList.isRevoked(email, claims.getIssuedAt().getTime())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if(stateless) {
+            String role = claims.get("role", String.class);
+            if(role != null && !jwtService.isTokenExpired(claims)) {
+                List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+                authenticate(request, email.toLowerCase(), authorities);
+                verifiedTokenCache.put(
+                        jwt,
+                        email.toLowerCase(),
+                        authorities,
+                        claims.getIssuedAt().getTime(),
+                        claims.getExpiration().getTime()
+                );
+            }
+        } else {
             UserCredential userCredential = (UserCredential) userDetailsService.loadUserByUsername(email);
-            if(jwtService.validateToken(jwt, userCredential)) {
-                var authToken = new UsernamePasswordAuthenticationToken(
+            if(jwtService.validateToken(claims, userCredential)) {
+                authenticate(request, userCredential.getEmail(), userCredential.getAuthorities());
+                verifiedTokenCache.put(
+                        jwt,
                         userCredential.getEmail(),
-                        null,
-                        userCredential.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
+                        userCredential.getAuthorities(),
+                        claims.getIssuedAt().getTime(),
+                        claims.getExpiration().getTime()
                 );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
         filterChain.doFilter(request,response);
     }
+
+    private void authenticate(
+            HttpServletRequest request,
+            String email,
+            Collection<? extends GrantedAuthority> authorities
+    ) {
+        var authToken = new UsernamePasswordAuthenticationToken(
+                email,
+                null,
+                authorities
+        );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -0,0 +1,25 @@
+package com.mattevaitcs.hospital_management.config;
+
+import com.mattevaitcs.hospital_management.utils.metrics.EntityLoadCountingIntegrator;
+import com.mattevaitcs.hospital_management.utils.metrics.JdbcTimingSessionListener;
+import com.mattevaitcs.hospital_management.utils.metrics.StatementCountingInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class QueryMetricsConfig {
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new EntityLoadCountingIntegrator()));
+        };
+    }
+}
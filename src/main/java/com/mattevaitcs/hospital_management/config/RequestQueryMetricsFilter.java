@@ -0,0 +1,64 @@
+package com.mattevaitcs.hospital_management.config;
+
+import com.mattevaitcs.hospital_management.utils.metrics.QueryBudget;
+import com.mattevaitcs.hospital_management.utils.metrics.RequestQueryContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/*
+ * Opens a RequestQueryContext around the whole request, security included, and records
+ * the SQL statement and entity load counts per endpoint so N+1 patterns show up by uri.
+ * Each request is then checked against the QueryBudget unless its path is exempt.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final QueryBudget queryBudget;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        boolean exempt = queryBudget.isExempt(request.getRequestURI().substring(request.getContextPath().length()));
+        RequestQueryContext context = RequestQueryContext.begin(exempt ? Integer.MAX_VALUE : queryBudget.statementLimit());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            context.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            Tags tags = Tags.of(
+                    "method", request.getMethod(),
+                    "uri", uri
+            );
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(context.getStatements());
+            DistributionSummary.builder("http.server.requests.entities.loaded")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(context.getEntitiesLoaded());
+            if(!exempt) {
+                queryBudget.evaluate(request.getMethod() + " " + uri, context);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mattevaitcs.hospital_management.config;
 
+import com.mattevaitcs.hospital_management.entities.enums.HospitalRole;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +32,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(htp ->
                             htp.requestMatchers("/api/v1/auth/login")
                                     .permitAll()
+                                    .requestMatchers("/api/v1/auth/users/**")
+                                    .hasAuthority(HospitalRole.ADMIN.name())
                                     .anyRequest()
                                     .authenticated()
 
@@ -0,0 +1,37 @@
+package com.mattevaitcs.hospital_management.config;
+
+import com.mattevaitcs.hospital_management.services.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Accounts whose outstanding tokens must no longer be honoured, e.g. after the
+ * account is disabled. Any token issued at or before the revocation instant is
+ * rejected, compared in whole seconds because that is all the iat claim carries,
+ * so a token issued in the same second as the revocation is rejected too. An
+ * entry only has to outlive the longest token lifetime, so the list stays small
+ * and is pruned on every revocation.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+    private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public void revoke(String email) {
+        long now = System.currentTimeMillis();
+        revokedAt.values().removeIf(instant -> instant + JwtService.TOKEN_VALIDITY.toMillis() < now);
+        revokedAt.put(email.toLowerCase(), now);
+        verifiedTokenCache.evictByEmail(email);
+    }
+
+    public boolean isRevoked(String email, long issuedAtMillis) {
+        Long instant = revokedAt.get(email.toLowerCase());
+        return instant != null
+                && TimeUnit.MILLISECONDS.toSeconds(issuedAtMillis) <= TimeUnit.MILLISECONDS.toSeconds(instant);
+    }
+}
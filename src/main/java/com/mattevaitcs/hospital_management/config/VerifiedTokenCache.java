@@ -0,0 +1,90 @@
+package com.mattevaitcs.hospital_management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Remembers tokens whose signature has already been verified and whose user
+ * has already been loaded, so repeat requests with the same bearer token skip
+ * both the HMAC check and the UserCredential lookup. Entries are keyed by a
+ * SHA-256 digest of the token and are dropped once the token's exp passes.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    public VerifiedToken get(String token) {
+        String key = digest(token);
+        VerifiedToken verifiedToken = entries.get(key);
+        if(verifiedToken == null) {
+            return null;
+        }
+        if(verifiedToken.isExpired()) {
+            entries.remove(key, verifiedToken);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    public void put(
+            String token,
+            String email,
+            Collection<? extends GrantedAuthority> authorities,
+            long issuedAtMillis,
+            long expiresAtMillis
+    ) {
+        if(entries.size() >= maxSize) {
+            evictExpired();
+            if(entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(digest(token), new VerifiedToken(email, List.copyOf(authorities), issuedAtMillis, expiresAtMillis));
+    }
+
+    public void evictByEmail(String email) {
+        entries.values().removeIf(verifiedToken -> verifiedToken.email().equalsIgnoreCase(email));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        entries.values().removeIf(VerifiedToken::isExpired);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedToken(
+            String email,
+            List<GrantedAuthority> authorities,
+            long issuedAtMillis,
+            long expiresAtMillis
+    ) {
+        boolean isExpired() {
+            return expiresAtMillis <= System.currentTimeMillis();
+        }
+    }
+}
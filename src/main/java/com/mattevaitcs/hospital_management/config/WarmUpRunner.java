@@ -0,0 +1,86 @@
+package com.mattevaitcs.hospital_management.config;
+
+import com.mattevaitcs.hospital_management.services.DoctorAssignmentService;
+import com.mattevaitcs.hospital_management.services.DoctorService;
+import com.mattevaitcs.hospital_management.services.PatientService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Opt-in warm-up (warmup.enabled). It runs as an ApplicationRunner, i.e. before
+ * Spring Boot publishes ApplicationReadyEvent, so the readiness probe keeps
+ * reporting REFUSING_TRAFFIC until it has finished. It opens the pool's idle
+ * connections, loads the doctor cache and assignment roster, and exercises the
+ * hot read paths so the JIT has compiled them before real traffic arrives.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+    private final DataSource dataSource;
+    private final DoctorService doctorService;
+    private final DoctorAssignmentService doctorAssignmentService;
+    private final PatientService patientService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${warmup.connections:10}")
+    private int connections;
+
+    @Value("${warmup.iterations:200}")
+    private int iterations;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        try {
+            primeConnectionPool();
+            doctorService.getSpecializations();
+            doctorService.getAllDoctors(false);
+            doctorAssignmentService.refresh();
+            for (int i = 0; i < iterations; i++) {
+                patientService.getPatientsPage(50, "id", null);
+                patientService.searchPatients("an", 10);
+                doctorService.searchDoctors(null, "s", 0, 25);
+            }
+        } catch (RuntimeException | SQLException e) {
+            log.warn("Warm-up did not complete, continuing startup", e);
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        Timer.builder("application.warmup")
+                .description("Time spent warming up before accepting traffic")
+                .register(meterRegistry)
+                .record(duration);
+        log.info("Warm-up finished in {} ms", duration.toMillis());
+    }
+
+    private void primeConnectionPool() throws SQLException {
+        List<Connection> opened = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                opened.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.mattevaitcs.hospital_management.controllers;
+
+import com.mattevaitcs.hospital_management.dtos.AppointmentInformation;
+import com.mattevaitcs.hospital_management.dtos.AvailableSlot;
+import com.mattevaitcs.hospital_management.dtos.PostNewAppointmentRequest;
+import com.mattevaitcs.hospital_management.dtos.UpdateAppointmentRequest;
+import com.mattevaitcs.hospital_management.entities.enums.HospitalRole;
+import com.mattevaitcs.hospital_management.services.AppointmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/appointment")
+public class AppointmentController {
+    private final AppointmentService appointmentService;
+
+    @GetMapping("/available")
+    public ResponseEntity<List<AvailableSlot>> getAvailableSlots(
+            @RequestParam String specialization,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer duration,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(appointmentService.findAvailableSlots(specialization, from, to, duration, limit));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<AppointmentInformation> getAppointmentById(@PathVariable long id) {
+        return ResponseEntity.ok(appointmentService.getAppointmentById(id));
+    }
+
+    @GetMapping("/doctor/{id}")
+    public ResponseEntity<List<AppointmentInformation>> getDoctorSchedule(@PathVariable long id) {
+        return ResponseEntity.ok(appointmentService.getAppointmentsById(id, HospitalRole.STAFF));
+    }
+
+    @GetMapping("/patient/{id}")
+    public ResponseEntity<List<AppointmentInformation>> getPatientSchedule(@PathVariable long id) {
+        return ResponseEntity.ok(appointmentService.getAppointmentsById(id, HospitalRole.PATIENT));
+    }
+
+    @PostMapping("/")
+    public ResponseEntity<AppointmentInformation> postNewAppointment(@RequestBody PostNewAppointmentRequest request) {
+        AppointmentInformation createdAppointment = appointmentService.createAppointment(request);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(createdAppointment.id())
+                .toUri();
+        return ResponseEntity.created(location).body(createdAppointment);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<AppointmentInformation> updateAppointment(
+            @PathVariable long id,
+            @RequestBody UpdateAppointmentRequest request
+    ) {
+        return ResponseEntity.ok(appointmentService.updateAppointment(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<AppointmentInformation> cancelAppointment(@PathVariable long id) {
+        return ResponseEntity.ok(appointmentService.cancelAppointment(id));
+    }
+}
@@ -20,8 +20,25 @@ public class DoctorController {
     private final DoctorService doctorService;
 
     @GetMapping("/")
-    public ResponseEntity<List<DoctorInformation>> getAllDoctors() {
-        return new ResponseEntity<>(doctorService.getAllDoctors(), HttpStatus.OK);
+    public ResponseEntity<List<DoctorInformation>> getAllDoctors(
+            @RequestParam(defaultValue = "true") boolean includePatients
+    ) {
+        return new ResponseEntity<>(doctorService.getAllDoctors(includePatients), HttpStatus.OK);
+    }
+
+    @GetMapping("/specializations")
+    public ResponseEntity<List<String>> getSpecializations() {
+        return ResponseEntity.ok(doctorService.getSpecializations());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<DoctorInformation>> searchDoctors(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "25") int size
+    ) {
+        return ResponseEntity.ok(doctorService.searchDoctors(department, name, page, size));
     }
 
     @GetMapping("/{id}")
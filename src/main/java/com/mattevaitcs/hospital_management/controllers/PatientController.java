@@ -1,28 +1,74 @@
 package com.mattevaitcs.hospital_management.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mattevaitcs.hospital_management.dtos.BulkImportResult;
+import com.mattevaitcs.hospital_management.dtos.BulkPatientRow;
 import com.mattevaitcs.hospital_management.dtos.PatientInformation;
+import com.mattevaitcs.hospital_management.dtos.PatientPage;
 import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
+import com.mattevaitcs.hospital_management.services.PatientImportService;
 import com.mattevaitcs.hospital_management.services.PatientService;
+import com.mattevaitcs.hospital_management.utils.mappers.PatientCsvReader;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @RestController
 @RequestMapping("/api/v1/patient")
 @RequiredArgsConstructor
 public class PatientController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final PatientService patientService;
+    private final PatientImportService patientImportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/")
-    public ResponseEntity<List<PatientInformation>> getPatientsIndex() {
-        return ResponseEntity.ok(patientService.getAllPatients());
+    public ResponseEntity<PatientPage> getPatientsIndex(
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(patientService.getPatientsPage(size, sort, cursor));
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportPatients(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        ObjectWriter writer = objectMapper.writer();
+        OutputStream out = new BufferedOutputStream(response.getOutputStream());
+        patientService.exportPatients(patient -> {
+            try {
+                out.write(writer.writeValueAsBytes(patient));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PatientInformation>> searchPatients(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(patientService.searchPatients(query, limit));
     }
 
     @GetMapping("/{id}")
@@ -34,4 +80,17 @@ public class PatientController {
     public ResponseEntity<PatientInformation> postNewPatient(@RequestBody @Valid PostNewPatientRequest request) {
         return ResponseEntity.created(null).body(patientService.createPatient(request));
     }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResult> bulkImportPatients(@RequestBody List<PostNewPatientRequest> requests) {
+        List<BulkPatientRow> rows = IntStream.range(0, requests.size())
+                .mapToObj(i -> new BulkPatientRow(i + 1, requests.get(i)))
+                .toList();
+        return ResponseEntity.ok(patientImportService.importPatients(rows));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResult> bulkImportPatientsCsv(@RequestBody String csv) {
+        return ResponseEntity.ok(patientImportService.importPatients(PatientCsvReader.read(csv)));
+    }
 }
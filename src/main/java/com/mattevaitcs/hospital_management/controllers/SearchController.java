@@ -0,0 +1,31 @@
+package com.mattevaitcs.hospital_management.controllers;
+
+import com.mattevaitcs.hospital_management.dtos.SearchHit;
+import com.mattevaitcs.hospital_management.services.DirectorySearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.in-memory.enabled", havingValue = "true")
+public class SearchController {
+    private static final int MAX_RESULTS = 50;
+
+    private final DirectorySearchService directorySearchService;
+
+    @GetMapping("/")
+    public ResponseEntity<List<SearchHit>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(directorySearchService.search(query, Math.clamp(limit, 1, MAX_RESULTS)));
+    }
+}
@@ -22,4 +22,16 @@ public class UserCredentialController {
     public ResponseEntity<String> login(@RequestBody AuthRequest request) {
         return ResponseEntity.ok(userCredentialService.login(request));
     }
+
+    @DeleteMapping("/users/{email}")
+    public ResponseEntity<Void> deleteUser(@PathVariable String email) {
+        userCredentialService.deleteUserCredentials(email);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/users/{email}/revoke")
+    public ResponseEntity<Void> revokeTokens(@PathVariable String email) {
+        userCredentialService.revokeTokens(email);
+        return ResponseEntity.noContent().build();
+    }
 }
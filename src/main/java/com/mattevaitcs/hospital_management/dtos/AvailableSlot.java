@@ -0,0 +1,15 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record AvailableSlot(
+        long doctorId,
+        String doctorFirstName,
+        String doctorLastName,
+        String specialization,
+        LocalDate date,
+        LocalTime start,
+        LocalTime end
+) {
+}
@@ -0,0 +1,11 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record BookedSlot(
+        long doctorId,
+        LocalDate date,
+        LocalTime time
+) {
+}
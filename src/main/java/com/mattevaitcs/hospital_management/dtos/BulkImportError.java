@@ -0,0 +1,9 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+import java.util.List;
+
+public record BulkImportError(
+        int row,
+        List<String> messages
+) {
+}
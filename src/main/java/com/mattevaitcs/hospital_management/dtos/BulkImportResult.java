@@ -0,0 +1,10 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+import java.util.List;
+
+public record BulkImportResult(
+        int received,
+        int imported,
+        List<BulkImportError> errors
+) {
+}
@@ -0,0 +1,11 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+public record BulkPatientRow(
+        int row,
+        PostNewPatientRequest request,
+        String parseError
+) {
+    public BulkPatientRow(int row, PostNewPatientRequest request) {
+        this(row, request, null);
+    }
+}
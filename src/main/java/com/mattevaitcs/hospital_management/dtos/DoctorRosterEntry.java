@@ -0,0 +1,7 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+public record DoctorRosterEntry(
+        long id,
+        String specialization
+) {
+}
@@ -0,0 +1,11 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+import java.util.List;
+
+public record PatientPage(
+        List<PatientInformation> patients,
+        int size,
+        String sort,
+        String nextCursor
+) {
+}
@@ -0,0 +1,18 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+import com.mattevaitcs.hospital_management.entities.enums.BiologicalSex;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record PatientSummary(
+        long id,
+        String fname,
+        String lname,
+        String phone,
+        String address,
+        LocalDate dob,
+        BiologicalSex biologicalSex,
+        List<String> allergies
+) {
+}
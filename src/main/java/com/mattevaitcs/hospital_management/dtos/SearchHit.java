@@ -0,0 +1,10 @@
+package com.mattevaitcs.hospital_management.dtos;
+
+public record SearchHit(
+        String type,
+        long id,
+        String name,
+        String phone,
+        String specialization
+) {
+}
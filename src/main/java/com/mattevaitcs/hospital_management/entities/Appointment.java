@@ -18,7 +18,8 @@ import java.time.LocalTime;
 @Builder
 public class Appointment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eva_appointments_seq")
+    @SequenceGenerator(name = "eva_appointments_seq", sequenceName = "eva_appointments_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private long id;
     @ManyToOne
     @JoinColumn(name = "patientId")
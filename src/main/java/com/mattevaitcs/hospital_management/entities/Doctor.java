@@ -1,7 +1,12 @@
 package com.mattevaitcs.hospital_management.entities;
 
+import com.mattevaitcs.hospital_management.utils.listeners.DoctorRosterListener;
+import com.mattevaitcs.hospital_management.utils.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -12,9 +17,14 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@BatchSize(size = 50)
+@EntityListeners({SearchIndexListener.class, DoctorRosterListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Doctor extends AuditableEntity{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eva_doctors_seq")
+    @SequenceGenerator(name = "eva_doctors_seq", sequenceName = "eva_doctors_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private long id;
     private   String firstName;
     private   String lastName;
@@ -23,6 +33,7 @@ public class Doctor extends AuditableEntity{
     private   String specialization;
 
     @OneToMany(mappedBy = "primaryDoctor", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 50)
     private List<Patient> primaryPatients;
 
     @OneToMany(mappedBy = "doctor")
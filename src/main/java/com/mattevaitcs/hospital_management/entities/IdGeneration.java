@@ -0,0 +1,15 @@
+package com.mattevaitcs.hospital_management.entities;
+
+/*
+ * Shared settings for the pooled sequence id generators. Hibernate reserves
+ * ALLOCATION_SIZE ids per sequence call, which keeps JDBC insert batching
+ * possible. With hibernate.id.sequence.increment_size_mismatch_strategy=fix
+ * an existing database sequence's INCREMENT BY takes precedence, so the block
+ * size can be retuned in the database without rebuilding.
+ */
+public final class IdGeneration {
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
@@ -1,6 +1,7 @@
 package com.mattevaitcs.hospital_management.entities;
 
 import com.mattevaitcs.hospital_management.entities.enums.BiologicalSex;
+import com.mattevaitcs.hospital_management.utils.search.SearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
@@ -10,19 +11,26 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "eva_patients")
+@Table(name = "eva_patients", indexes = {
+        @Index(name = "idx_eva_patients_lname_id", columnList = "lname, id")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@BatchSize(size = 50)
+@EntityListeners(SearchIndexListener.class)
 public class Patient extends AuditableEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eva_patients_seq")
+    @SequenceGenerator(name = "eva_patients_seq", sequenceName = "eva_patients_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private long id;
     @Column(nullable = false, length = 150)
     @NotNull(message = "First name is required")
@@ -53,6 +61,9 @@ public class Patient extends AuditableEntity {
     @ManyToOne
     private Doctor primaryDoctor;
 
-    @OneToMany(mappedBy = "patient", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "patient")
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Appointment> appointments;
 }
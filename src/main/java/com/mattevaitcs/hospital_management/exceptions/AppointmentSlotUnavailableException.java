@@ -0,0 +1,7 @@
+package com.mattevaitcs.hospital_management.exceptions;
+
+public class AppointmentSlotUnavailableException extends RuntimeException {
+    public AppointmentSlotUnavailableException(String s) {
+        super(s);
+    }
+}
@@ -2,6 +2,7 @@ package com.mattevaitcs.hospital_management.exceptions;
 
 import com.mattevaitcs.hospital_management.exceptions.dtos.ApiError;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,7 +17,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = {
             PatientNotFoundException.class,
             DoctorNotFoundException.class,
-            AppointmentNotFoundException.class
+            AppointmentNotFoundException.class,
+            UserCredentialNotFoundException.class
     })
     public ResponseEntity<ApiError> exceptionHandler(RuntimeException exception, HttpServletRequest request) {
         ApiError apiError = new ApiError(
@@ -28,6 +30,56 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(value = {
+            InvalidCursorException.class,
+            InvalidAppointmentSlotException.class
+    })
+    public ResponseEntity<ApiError> badRequestHandler(RuntimeException exception, HttpServletRequest request) {
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                exception.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(AppointmentSlotUnavailableException.class)
+    public ResponseEntity<ApiError> exceptionHandler(AppointmentSlotUnavailableException exception, HttpServletRequest request) {
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                exception.getMessage(),
+                HttpStatus.CONFLICT.value(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ApiError> exceptionHandler(PasswordHashingUnavailableException exception, HttpServletRequest request) {
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                exception.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(apiError);
+    }
+
+    // REJECT mode refused a request that ran past query-budget.max-statements
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    public ResponseEntity<ApiError> exceptionHandler(QueryBudgetExceededException exception, HttpServletRequest request) {
+        ApiError apiError = new ApiError(
+                request.getRequestURI(),
+                exception.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(apiError, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> exceptionHandler(Exception e, HttpServletRequest request){
         ApiError apiError = new ApiError(
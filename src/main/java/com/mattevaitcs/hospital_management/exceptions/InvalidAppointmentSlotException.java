@@ -0,0 +1,7 @@
+package com.mattevaitcs.hospital_management.exceptions;
+
+public class InvalidAppointmentSlotException extends RuntimeException {
+    public InvalidAppointmentSlotException(String s) {
+        super(s);
+    }
+}
@@ -0,0 +1,7 @@
+package com.mattevaitcs.hospital_management.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String s) {
+        super(s);
+    }
+}
@@ -0,0 +1,7 @@
+package com.mattevaitcs.hospital_management.exceptions;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String s) {
+        super(s);
+    }
+}
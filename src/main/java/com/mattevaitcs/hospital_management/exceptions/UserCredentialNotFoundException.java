@@ -0,0 +1,7 @@
+package com.mattevaitcs.hospital_management.exceptions;
+
+public class UserCredentialNotFoundException extends RuntimeException{
+    public UserCredentialNotFoundException(String s) {
+        super(s);
+    }
+}
@@ -1,16 +1,51 @@
 package com.mattevaitcs.hospital_management.repositories;
 
 
+import com.mattevaitcs.hospital_management.dtos.BookedSlot;
 import com.mattevaitcs.hospital_management.entities.Appointment;
 import com.mattevaitcs.hospital_management.entities.enums.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AppointmentRepository extends JpaRepository<Appointment,Long> {
 
     List<Appointment> findAllByStatusOrderByDateAsc(Status status);
     List<Appointment> findAllByPatientId(long id);
     List<Appointment> findAllByDoctorId(long id);
-}
 
+    @EntityGraph(attributePaths = {"patient", "doctor"})
+    @Query("SELECT a FROM Appointment a WHERE a.patient.id = :id ORDER BY a.date ASC, a.time ASC")
+    List<Appointment> findScheduleByPatientId(@Param("id") long id);
+
+    @EntityGraph(attributePaths = {"patient", "doctor"})
+    @Query("SELECT a FROM Appointment a WHERE a.doctor.id = :id ORDER BY a.date ASC, a.time ASC")
+    List<Appointment> findScheduleByDoctorId(@Param("id") long id);
+
+    // Must be consumed inside a transaction; Postgres only honours the fetch size with autocommit off
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.BookedSlot(a.doctor.id, a.date, a.time)
+      FROM Appointment a
+      WHERE a.date >= :from
+        AND a.status <> com.mattevaitcs.hospital_management.entities.enums.Status.CANCELLED
+      """)
+    Stream<BookedSlot> streamBookedSlotsFrom(@Param("from") LocalDate from);
+
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.BookedSlot(a.doctor.id, a.date, a.time)
+      FROM Appointment a
+      WHERE a.doctor.id = :doctorId
+        AND a.date >= :from
+        AND a.status <> com.mattevaitcs.hospital_management.entities.enums.Status.CANCELLED
+      """)
+    List<BookedSlot> findBookedSlotsByDoctorIdFrom(@Param("doctorId") long doctorId, @Param("from") LocalDate from);
+}
@@ -1,23 +1,64 @@
 package com.mattevaitcs.hospital_management.repositories;
 
+import com.mattevaitcs.hospital_management.dtos.DoctorRosterEntry;
 import com.mattevaitcs.hospital_management.entities.Doctor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface DoctorRepository extends JpaRepository<Doctor, Long> {
-    List<Doctor> findAllBySpecializationIgnoreCase(String specialization);
+    // Callers pass the specialization lower-cased so the lower(specialization) index applies
+    @Query("SELECT d FROM Doctor d WHERE LOWER(d.specialization) = :specialization ORDER BY d.lastName ASC")
+    List<Doctor> findAllBySpecializationLower(@Param("specialization") String specialization);
+
+    // Query cache holds the ids and the doctors come from the entity cache, so repeat calls skip the database
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT d FROM Doctor d WHERE LOWER(d.specialization) = :specialization ORDER BY d.id ASC")
+    List<Doctor> findCachedBySpecializationLower(@Param("specialization") String specialization);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT DISTINCT d.specialization FROM Doctor d WHERE d.specialization IS NOT NULL ORDER BY d.specialization")
+    List<String> findDistinctSpecializations();
+
+    @Query("SELECT new com.mattevaitcs.hospital_management.dtos.DoctorRosterEntry(d.id, d.specialization) FROM Doctor d")
+    List<DoctorRosterEntry> findRoster();
 
     List<Doctor> findAllByDepartmentIgnoreCaseOrderByLastNameAsc(String department);
 
+    /*
+     * Directory search. Department is matched exactly and last name by prefix,
+     * both on their lower-cased value, so each predicate can use the functional
+     * indexes in schema-postgresql.sql. Parameters must already be lower-cased
+     * and the name escaped for LIKE.
+     */
+    @Query("""
+      SELECT d FROM Doctor d
+      WHERE LOWER(d.department) = :dept
+        AND LOWER(d.lastName) LIKE CONCAT(:name, '%') ESCAPE '\\'
+      ORDER BY LOWER(d.lastName) ASC, d.id ASC
+    """)
+    List<Doctor> searchByDepartmentAndName(@Param("dept") String dept, @Param("name") String name, Pageable pageable);
+
+    @Query("""
+      SELECT d FROM Doctor d
+      WHERE LOWER(d.department) = :dept
+      ORDER BY LOWER(d.lastName) ASC, d.id ASC
+    """)
+    List<Doctor> searchByDepartment(@Param("dept") String dept, Pageable pageable);
+
     @Query("""
       SELECT d FROM Doctor d
-      WHERE (:dept IS NULL OR :dept = '' OR LOWER(d.department) = LOWER(:dept))
-        AND (:name IS NULL OR :name = '' OR
-             LOWER(d.lastName)  LIKE LOWER(CONCAT('%', :name, '%')))
-            ORDER BY d.lastName ASC
+      WHERE LOWER(d.lastName) LIKE CONCAT(:name, '%') ESCAPE '\\'
+      ORDER BY LOWER(d.lastName) ASC, d.id ASC
     """)
-    List<Doctor> search(@Param("dept") String dept,@Param("name") String name );
+    List<Doctor> searchByName(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT d FROM Doctor d ORDER BY LOWER(d.lastName) ASC, d.id ASC")
+    List<Doctor> searchAll(Pageable pageable);
 }
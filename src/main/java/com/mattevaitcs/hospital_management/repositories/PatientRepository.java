@@ -1,15 +1,111 @@
 package com.mattevaitcs.hospital_management.repositories;
 
+import com.mattevaitcs.hospital_management.dtos.DoctorPatientCount;
+import com.mattevaitcs.hospital_management.dtos.PatientSummary;
 import com.mattevaitcs.hospital_management.entities.Patient;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PatientRepository extends JpaRepository<Patient, Long> {
     List<Patient> findAllByDobOrderByLnameAsc(LocalDate dob);
 
     @Query("SELECT p FROM Patient p WHERE p.lname LIKE %?1% OR p.fname LIKE %?1%" )
     List<Patient> searchByName(String name);
+
+    /*
+     * Ranks exact matches first, then prefix matches, then any substring match.
+     * On Postgres the LOWER(...) LIKE predicates are served by the pg_trgm
+     * indexes from schema-postgresql.sql; callers pass the term already lower-cased,
+     * and the same term escaped with LikePatterns.escapeLike as the pattern.
+     */
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.PatientSummary(
+             p.id, p.fname, p.lname, p.phone, p.address, p.dob, p.biologicalSex, p.allergies)
+      FROM Patient p
+      WHERE LOWER(p.lname) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\'
+         OR LOWER(p.fname) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\'
+      ORDER BY
+        CASE
+          WHEN LOWER(p.lname) = :term OR LOWER(p.fname) = :term THEN 0
+          WHEN LOWER(p.lname) LIKE CONCAT(:pattern, '%') ESCAPE '\\'
+            OR LOWER(p.fname) LIKE CONCAT(:pattern, '%') ESCAPE '\\' THEN 1
+          ELSE 2
+        END,
+        p.lname ASC,
+        p.fname ASC,
+        p.id ASC
+    """)
+    List<PatientSummary> searchSummaries(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.DoctorPatientCount(p.primaryDoctor.id, COUNT(p))
+      FROM Patient p
+      WHERE p.primaryDoctor IS NOT NULL
+      GROUP BY p.primaryDoctor.id
+    """)
+    List<DoctorPatientCount> countPatientsByPrimaryDoctor();
+
+    @Query("SELECT p FROM Patient p JOIN FETCH p.primaryDoctor d WHERE d.id IN :doctorIds")
+    List<Patient> findAllByPrimaryDoctorIdIn(@Param("doctorIds") Collection<Long> doctorIds);
+
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.PatientSummary(
+             p.id, p.fname, p.lname, p.phone, p.address, p.dob, p.biologicalSex, p.allergies)
+      FROM Patient p
+    """)
+    List<PatientSummary> findAllSummaries();
+
+    // Must be consumed inside a transaction; Postgres only honours the fetch size with autocommit off
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.PatientSummary(
+             p.id, p.fname, p.lname, p.phone, p.address, p.dob, p.biologicalSex, p.allergies)
+      FROM Patient p
+      ORDER BY p.id ASC
+    """)
+    Stream<PatientSummary> streamAllSummaries();
+
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.PatientSummary(
+             p.id, p.fname, p.lname, p.phone, p.address, p.dob, p.biologicalSex, p.allergies)
+      FROM Patient p
+      WHERE p.id = :id
+    """)
+    Optional<PatientSummary> findSummaryById(@Param("id") long id);
+
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.PatientSummary(
+             p.id, p.fname, p.lname, p.phone, p.address, p.dob, p.biologicalSex, p.allergies)
+      FROM Patient p
+      WHERE p.id > :afterId
+      ORDER BY p.id ASC
+    """)
+    List<PatientSummary> findSummariesAfterId(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("""
+      SELECT new com.mattevaitcs.hospital_management.dtos.PatientSummary(
+             p.id, p.fname, p.lname, p.phone, p.address, p.dob, p.biologicalSex, p.allergies)
+      FROM Patient p
+      WHERE p.lname > :lname OR (p.lname = :lname AND p.id > :afterId)
+      ORDER BY p.lname ASC, p.id ASC
+    """)
+    List<PatientSummary> findSummariesAfterLastName(
+            @Param("lname") String lname,
+            @Param("afterId") long afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT p.primaryDoctor.id FROM Patient p WHERE p.id = :id AND p.primaryDoctor IS NOT NULL")
+    Optional<Long> findPrimaryDoctorIdById(@Param("id") long id);
 }
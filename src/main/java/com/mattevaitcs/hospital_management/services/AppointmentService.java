@@ -1,10 +1,12 @@
 package com.mattevaitcs.hospital_management.services;
 
 import com.mattevaitcs.hospital_management.dtos.AppointmentInformation;
+import com.mattevaitcs.hospital_management.dtos.AvailableSlot;
 import com.mattevaitcs.hospital_management.dtos.PostNewAppointmentRequest;
 import com.mattevaitcs.hospital_management.dtos.UpdateAppointmentRequest;
 import com.mattevaitcs.hospital_management.entities.enums.HospitalRole;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AppointmentService {
@@ -13,4 +15,5 @@ public interface AppointmentService {
     AppointmentInformation getAppointmentById(long id);
     AppointmentInformation updateAppointment(long id, UpdateAppointmentRequest request);
     AppointmentInformation cancelAppointment(long id);
+    List<AvailableSlot> findAvailableSlots(String specialization, LocalDate from, LocalDate to, Integer durationMinutes, int limit);
 }
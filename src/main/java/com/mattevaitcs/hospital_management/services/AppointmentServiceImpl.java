@@ -1,6 +1,7 @@
 package com.mattevaitcs.hospital_management.services;
 
 import com.mattevaitcs.hospital_management.dtos.AppointmentInformation;
+import com.mattevaitcs.hospital_management.dtos.AvailableSlot;
 import com.mattevaitcs.hospital_management.dtos.PostNewAppointmentRequest;
 import com.mattevaitcs.hospital_management.dtos.UpdateAppointmentRequest;
 import com.mattevaitcs.hospital_management.entities.Appointment;
@@ -9,23 +10,40 @@ import com.mattevaitcs.hospital_management.entities.Patient;
 import com.mattevaitcs.hospital_management.entities.enums.HospitalRole;
 import com.mattevaitcs.hospital_management.entities.enums.Status;
 import com.mattevaitcs.hospital_management.exceptions.AppointmentNotFoundException;
+import com.mattevaitcs.hospital_management.exceptions.AppointmentSlotUnavailableException;
 import com.mattevaitcs.hospital_management.exceptions.DoctorNotFoundException;
+import com.mattevaitcs.hospital_management.exceptions.InvalidAppointmentSlotException;
 import com.mattevaitcs.hospital_management.exceptions.PatientNotFoundException;
 import com.mattevaitcs.hospital_management.repositories.AppointmentRepository;
 import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
 import com.mattevaitcs.hospital_management.repositories.PatientRepository;
 import com.mattevaitcs.hospital_management.utils.mappers.AppointmentMapper;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AppointmentServiceImpl implements AppointmentService {
+    private static final int MAX_SLOT_WINDOW_DAYS = 90;
+    private static final int MAX_SLOT_RESULTS = 100;
+    private static final String SLOT_INDEX = "uq_eva_appointments_doctor_slot";
+
     private final AppointmentRepository appointmentRepository;
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
+    private final AppointmentSlotEngine appointmentSlotEngine;
 
     @Override
     public AppointmentInformation createAppointment(PostNewAppointmentRequest request) {
@@ -44,18 +62,20 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .time(request.time())
                 .status(Status.BOOKED)
                 .build();
-        return AppointmentMapper.toDto(appointmentRepository.save(appointment));
+        reserveSlot(doctor.getId(), request.date(), request.time());
+        return AppointmentMapper.toDto(saveReserved(appointment, doctor.getId()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AppointmentInformation> getAppointmentsById(long id, HospitalRole role) {
         /*
         * We need to determine what type of id it is
         * it can either belong to a doctor or patient
         * */
         var list = switch (role) {
-            case PATIENT -> appointmentRepository.findAllByPatientId(id);
-            case STAFF, ADMIN -> appointmentRepository.findAllByDoctorId(id);
+            case PATIENT -> appointmentRepository.findScheduleByPatientId(id);
+            case STAFF, ADMIN -> appointmentRepository.findScheduleByDoctorId(id);
         };
         return list.stream()
                 .map(AppointmentMapper::toDto)
@@ -73,14 +93,27 @@ public class AppointmentServiceImpl implements AppointmentService {
     public AppointmentInformation updateAppointment(long id,UpdateAppointmentRequest request) {
         return appointmentRepository.findById(id)
                 .map(appointment -> {
-                    appointment.setDoctor(
-                            doctorRepository.findById(request.doctorId())
-                                    .orElseThrow(() -> new DoctorNotFoundException(
-                                            "Doctor with the id " + request.doctorId() + " not found"
-                                    ))
-                    );
+                    long previousDoctorId = appointment.getDoctor().getId();
+                    boolean previouslyHeld = appointment.getStatus() != Status.CANCELLED;
+                    Doctor doctor = doctorRepository.findById(request.doctorId())
+                            .orElseThrow(() -> new DoctorNotFoundException(
+                                    "Doctor with the id " + request.doctorId() + " not found"
+                            ));
+                    boolean holds = request.status() != Status.CANCELLED;
+                    boolean moved = doctor.getId() != previousDoctorId;
+                    appointment.setDoctor(doctor);
                     appointment.setStatus(request.status());
-                    return appointmentRepository.save(appointment);
+                    Appointment saved;
+                    if(holds && (moved || !previouslyHeld)) {
+                        reserveSlot(doctor.getId(), appointment.getDate(), appointment.getTime());
+                        saved = saveReserved(appointment, doctor.getId());
+                    } else {
+                        saved = appointmentRepository.save(appointment);
+                    }
+                    if(previouslyHeld && (moved || !holds)) {
+                        appointmentSlotEngine.release(previousDoctorId, appointment.getDate(), appointment.getTime());
+                    }
+                    return saved;
                 })
                 .map(AppointmentMapper::toDto)
                 .orElseThrow(() -> new AppointmentNotFoundException("Appointment with the id of " + id + " not found"));
@@ -90,10 +123,103 @@ public class AppointmentServiceImpl implements AppointmentService {
     public AppointmentInformation cancelAppointment(long id) {
         return appointmentRepository.findById(id)
                 .map(appointment -> {
+                    boolean previouslyHeld = appointment.getStatus() != Status.CANCELLED;
                     appointment.setStatus(Status.CANCELLED);
-                    return appointmentRepository.save(appointment);
+                    Appointment saved = appointmentRepository.save(appointment);
+                    if(previouslyHeld) {
+                        appointmentSlotEngine.release(appointment.getDoctor().getId(), appointment.getDate(), appointment.getTime());
+                    }
+                    return saved;
                 })
                 .map(AppointmentMapper::toDto)
                 .orElseThrow(() -> new AppointmentNotFoundException("Appointment with the id of " + id + " not found"));
     }
+
+    @Override
+    public List<AvailableSlot> findAvailableSlots(
+            String specialization,
+            LocalDate from,
+            LocalDate to,
+            Integer durationMinutes,
+            int limit
+    ) {
+        if(specialization == null || specialization.isBlank()) {
+            throw new InvalidAppointmentSlotException("A specialization is required");
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate start = from == null || from.isBefore(today) ? today : from;
+        LocalDate end = to == null ? start.plusDays(MAX_SLOT_WINDOW_DAYS - 1) : to;
+        if(end.isBefore(start) || ChronoUnit.DAYS.between(start, end) >= MAX_SLOT_WINDOW_DAYS) {
+            throw new InvalidAppointmentSlotException(
+                    "The date window must run forwards and span at most " + MAX_SLOT_WINDOW_DAYS + " days");
+        }
+        // A booking holds exactly one slot, so only that length can be offered
+        int duration = appointmentSlotEngine.getSlotMinutes();
+        if(durationMinutes != null && durationMinutes != duration) {
+            throw new InvalidAppointmentSlotException(
+                    "Appointments last " + duration + " minutes; other durations cannot be booked");
+        }
+
+        Map<Long, Doctor> doctors = doctorRepository.findCachedBySpecializationLower(specialization.strip().toLowerCase())
+                .stream()
+                .collect(Collectors.toMap(Doctor::getId, Function.identity()));
+        return appointmentSlotEngine.findFreeSlots(
+                        doctors.keySet(),
+                        start,
+                        end,
+                        1,
+                        LocalDateTime.now(),
+                        Math.clamp(limit, 1, MAX_SLOT_RESULTS))
+                .stream()
+                .map(slot -> {
+                    Doctor doctor = doctors.get(slot.doctorId());
+                    return new AvailableSlot(
+                            doctor.getId(),
+                            doctor.getFirstName(),
+                            doctor.getLastName(),
+                            doctor.getSpecialization(),
+                            slot.date(),
+                            slot.start(),
+                            slot.start().plusMinutes(duration)
+                    );
+                })
+                .toList();
+    }
+
+    private void reserveSlot(long doctorId, LocalDate date, LocalTime time) {
+        if(!appointmentSlotEngine.reserve(doctorId, date, time)) {
+            throw new AppointmentSlotUnavailableException(
+                    "Doctor with the id " + doctorId + " is already booked on " + date + " at " + time);
+        }
+    }
+
+    /*
+    * The slot is already held in memory. A unique-index violation means another
+    * instance took it, so it stays held; any other failure gives it back
+    * */
+    private Appointment saveReserved(Appointment appointment, long doctorId) {
+        try {
+            return appointmentRepository.save(appointment);
+        } catch (DataIntegrityViolationException e) {
+            // Only a clash on the slot index means another instance holds the slot; anything else frees ours
+            if(!violatesSlotIndex(e)) {
+                appointmentSlotEngine.release(doctorId, appointment.getDate(), appointment.getTime());
+                throw e;
+            }
+            throw new AppointmentSlotUnavailableException(
+                    "Doctor with the id " + doctorId + " is already booked on " + appointment.getDate() + " at " + appointment.getTime());
+        } catch (RuntimeException e) {
+            appointmentSlotEngine.release(doctorId, appointment.getDate(), appointment.getTime());
+            throw e;
+        }
+    }
+
+    private static boolean violatesSlotIndex(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if(cause instanceof ConstraintViolationException violation) {
+                return SLOT_INDEX.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
 }
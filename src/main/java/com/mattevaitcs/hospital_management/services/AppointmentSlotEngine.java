@@ -0,0 +1,252 @@
+package com.mattevaitcs.hospital_management.services;
+
+import com.mattevaitcs.hospital_management.dtos.BookedSlot;
+import com.mattevaitcs.hospital_management.dtos.DoctorRosterEntry;
+import com.mattevaitcs.hospital_management.exceptions.InvalidAppointmentSlotException;
+import com.mattevaitcs.hospital_management.repositories.AppointmentRepository;
+import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/*
+ * In-memory occupancy of every doctor's upcoming schedule: one bitmap per doctor
+ * and day with a bit per appointments.slot-minutes slot, so availability is a
+ * single bit test. Each doctor's bitmaps are guarded by one of a fixed set of
+ * striped locks, so concurrent bookings only contend when they share a stripe.
+ * The index is loaded when the application is ready. A doctor it has not seen yet
+ * is loaded on first touch, under that doctor's lock, before any check or change.
+ * Only today onwards is held or bookable; days that have passed are dropped from a
+ * doctor's schedule whenever it is touched, so the index does not grow without bound.
+ * Cancelled appointments do not occupy a slot. The partial unique index on
+ * eva_appointments (doctor_id, date, time) catches bookings made by other instances.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AppointmentSlotEngine {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorRepository doctorRepository;
+    private final Map<Long, NavigableMap<LocalDate, BitSet>> schedules = new ConcurrentHashMap<>();
+
+    @Value("${appointments.slot-minutes:30}")
+    private int slotMinutes;
+
+    @Value("${appointments.lock-stripes:64}")
+    private int lockStripes;
+
+    @Value("${appointments.day-start:08:00}")
+    private String dayStart;
+
+    @Value("${appointments.day-end:18:00}")
+    private String dayEnd;
+
+    private Object[] locks;
+    private int firstBookableSlot;
+    private int endBookableSlot;
+
+    @PostConstruct
+    void init() {
+        if(slotMinutes <= 0 || MINUTES_PER_DAY % slotMinutes != 0) {
+            throw new IllegalStateException("appointments.slot-minutes must divide a day, was " + slotMinutes);
+        }
+        locks = new Object[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            locks[i] = new Object();
+        }
+        firstBookableSlot = slotIndex(LocalTime.parse(dayStart));
+        endBookableSlot = LocalTime.parse(dayEnd).equals(LocalTime.MIDNIGHT)
+                ? slotsPerDay()
+                : slotIndex(LocalTime.parse(dayEnd));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warm() {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        Map<Long, NavigableMap<LocalDate, BitSet>> loaded = new HashMap<>();
+        for (DoctorRosterEntry doctor : doctorRepository.findRoster()) {
+            loaded.put(doctor.id(), new TreeMap<>());
+        }
+        long[] slots = {0};
+        try (Stream<BookedSlot> booked = appointmentRepository.streamBookedSlotsFrom(today)) {
+            booked.forEach(slot -> {
+                mark(loaded.computeIfAbsent(slot.doctorId(), id -> new TreeMap<>()), slot);
+                slots[0]++;
+            });
+        }
+        // A doctor touched while we were reading already holds fresher state, so keep it
+        loaded.forEach((doctorId, schedule) -> {
+            synchronized (lockFor(doctorId)) {
+                schedules.putIfAbsent(doctorId, schedule);
+            }
+        });
+        log.info("Appointment slot index warmed with {} doctors and {} booked slots in {} ms",
+                loaded.size(), slots[0], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isAvailable(long doctorId, LocalDate date, LocalTime time) {
+        int slot = slotIndex(time);
+        synchronized (lockFor(doctorId)) {
+            BitSet day = schedule(doctorId).get(date);
+            return day == null || !day.get(slot);
+        }
+    }
+
+    /* Atomically claims the slot; false when it is already taken. */
+    public boolean reserve(long doctorId, LocalDate date, LocalTime time) {
+        int slot = bookableSlot(date, time);
+        synchronized (lockFor(doctorId)) {
+            BitSet day = schedule(doctorId).computeIfAbsent(date, key -> new BitSet(slotsPerDay()));
+            if(day.get(slot)) {
+                return false;
+            }
+            day.set(slot);
+            return true;
+        }
+    }
+
+    public void release(long doctorId, LocalDate date, LocalTime time) {
+        int slot = containingSlot(time);
+        synchronized (lockFor(doctorId)) {
+            BitSet day = schedule(doctorId).get(date);
+            if(day != null) {
+                day.clear(slot);
+            }
+        }
+    }
+
+    /*
+    * Earliest starts inside bookable hours where the doctor has `slots` consecutive
+    * free slots, ordered by date, time and doctor id. Each doctor is scanned once under
+    * its own lock and stops after `limit` hits, since no doctor can contribute more
+    * */
+    public List<FreeSlot> findFreeSlots(
+            Collection<Long> doctorIds,
+            LocalDate from,
+            LocalDate to,
+            int slots,
+            LocalDateTime notBefore,
+            int limit
+    ) {
+        List<FreeSlot> candidates = new ArrayList<>();
+        for (long doctorId : doctorIds) {
+            synchronized (lockFor(doctorId)) {
+                Map<LocalDate, BitSet> schedule = schedule(doctorId);
+                int found = 0;
+                for (LocalDate date = from; !date.isAfter(to) && found < limit; date = date.plusDays(1)) {
+                    BitSet day = schedule.get(date);
+                    int start = firstBookableSlot;
+                    if(date.equals(notBefore.toLocalDate())) {
+                        int slotSeconds = slotMinutes * 60;
+                        start = Math.max(start, (notBefore.toLocalTime().toSecondOfDay() + slotSeconds - 1) / slotSeconds);
+                    }
+                    while (start + slots <= endBookableSlot && found < limit) {
+                        int taken = day == null ? -1 : day.nextSetBit(start);
+                        if(taken != -1 && taken < start + slots) {
+                            start = taken + 1;
+                            continue;
+                        }
+                        candidates.add(new FreeSlot(doctorId, date, LocalTime.MIN.plusMinutes((long) start * slotMinutes)));
+                        found++;
+                        start++;
+                    }
+                }
+            }
+        }
+        return candidates.stream()
+                .sorted(FreeSlot.ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    public int slotIndex(LocalTime time) {
+        if(time == null || time.getSecond() != 0 || time.getNano() != 0
+                || (time.getHour() * 60 + time.getMinute()) % slotMinutes != 0) {
+            throw new InvalidAppointmentSlotException(
+                    "Appointment time " + time + " must start on a " + slotMinutes + " minute slot boundary");
+        }
+        return (time.getHour() * 60 + time.getMinute()) / slotMinutes;
+    }
+
+    /* The slot index of a start that findFreeSlots could have offered. */
+    public int bookableSlot(LocalDate date, LocalTime time) {
+        if(date == null) {
+            throw new InvalidAppointmentSlotException("Appointment date is required");
+        }
+        if(date.isBefore(LocalDate.now())) {
+            throw new InvalidAppointmentSlotException("Appointment date " + date + " is in the past");
+        }
+        int slot = slotIndex(time);
+        if(slot < firstBookableSlot || slot >= endBookableSlot) {
+            throw new InvalidAppointmentSlotException(
+                    "Appointment time " + time + " must be between " + dayStart + " and " + dayEnd);
+        }
+        return slot;
+    }
+
+    public int slotsPerDay() {
+        return MINUTES_PER_DAY / slotMinutes;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    /* Must be called while holding lockFor(doctorId). */
+    private Map<LocalDate, BitSet> schedule(long doctorId) {
+        LocalDate today = LocalDate.now();
+        NavigableMap<LocalDate, BitSet> schedule = schedules.get(doctorId);
+        if(schedule == null) {
+            schedule = new TreeMap<>();
+            for (BookedSlot slot : appointmentRepository.findBookedSlotsByDoctorIdFrom(doctorId, today)) {
+                mark(schedule, slot);
+            }
+            schedules.put(doctorId, schedule);
+        }
+        schedule.headMap(today).clear();
+        return schedule;
+    }
+
+    private void mark(Map<LocalDate, BitSet> schedule, BookedSlot slot) {
+        schedule.computeIfAbsent(slot.date(), key -> new BitSet(slotsPerDay())).set(containingSlot(slot.time()));
+    }
+
+    // Rows booked before the slot grid existed occupy the slot they start in
+    private int containingSlot(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / slotMinutes;
+    }
+
+    private Object lockFor(long doctorId) {
+        return locks[Math.floorMod(Long.hashCode(doctorId) * 0x9E3779B9, lockStripes)];
+    }
+
+    public record FreeSlot(long doctorId, LocalDate date, LocalTime start) {
+        static final Comparator<FreeSlot> ORDER = Comparator.comparing(FreeSlot::date)
+                .thenComparing(FreeSlot::start)
+                .thenComparingLong(FreeSlot::doctorId);
+    }
+}
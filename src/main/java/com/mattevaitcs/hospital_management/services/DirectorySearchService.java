@@ -0,0 +1,160 @@
+package com.mattevaitcs.hospital_management.services;
+
+import com.mattevaitcs.hospital_management.dtos.PatientSummary;
+import com.mattevaitcs.hospital_management.dtos.SearchHit;
+import com.mattevaitcs.hospital_management.entities.Doctor;
+import com.mattevaitcs.hospital_management.entities.Patient;
+import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
+import com.mattevaitcs.hospital_management.repositories.PatientRepository;
+import com.mattevaitcs.hospital_management.utils.search.NGramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/*
+ * Optional in-process type-ahead over patient and doctor names, phones and
+ * specializations. Built once the application is ready and kept current by
+ * SearchIndexListener, so lookups never touch the database. A rebuild fills
+ * fresh indexes off to the side, replays the changes that arrived meanwhile and
+ * then swaps them in, so readers never see a partially built index.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.in-memory.enabled", havingValue = "true")
+public class DirectorySearchService {
+    public static final String PATIENT = "patient";
+    public static final String DOCTOR = "doctor";
+
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final Object changeLock = new Object();
+
+    private volatile Indexes indexes = new Indexes(new NGramIndex<>(), new NGramIndex<>());
+    // Non-null while a rebuild is running; guarded by changeLock
+    private List<Consumer<Indexes>> pendingChanges;
+
+    private volatile long lastRebuildMillis = -1;
+    private volatile long lastRebuiltAt = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        synchronized (changeLock) {
+            pendingChanges = new ArrayList<>();
+        }
+        Indexes fresh = new Indexes(new NGramIndex<>(), new NGramIndex<>());
+        try {
+            try (Stream<PatientSummary> patients = patientRepository.streamAllSummaries()) {
+                patients.forEach(patient -> index(fresh, patient));
+            }
+            doctorRepository.findAll().forEach(doctor -> index(fresh, doctor));
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+        // Puts and removes are idempotent, so replaying a change the snapshot already saw is harmless
+        synchronized (changeLock) {
+            pendingChanges.forEach(change -> change.accept(fresh));
+            pendingChanges = null;
+            indexes = fresh;
+        }
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        lastRebuiltAt = System.currentTimeMillis();
+        log.info("Search index rebuilt with {} patients and {} doctors in {} ms",
+                fresh.patients().documentCount(), fresh.doctors().documentCount(), lastRebuildMillis);
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        Indexes current = indexes;
+        List<SearchHit> hits = new ArrayList<>(current.doctors().search(query, limit));
+        hits.addAll(current.patients().search(query, limit - hits.size()));
+        return hits;
+    }
+
+    public void index(Patient patient) {
+        PatientSummary summary = new PatientSummary(
+                patient.getId(),
+                patient.getFname(),
+                patient.getLname(),
+                patient.getPhone(),
+                patient.getAddress(),
+                patient.getDob(),
+                patient.getBiologicalSex(),
+                patient.getAllergies()
+        );
+        apply(target -> index(target, summary));
+    }
+
+    public void index(Doctor doctor) {
+        apply(target -> index(target, doctor));
+    }
+
+    public void removePatient(long id) {
+        apply(target -> target.patients().remove(id));
+    }
+
+    public void removeDoctor(long id) {
+        apply(target -> target.doctors().remove(id));
+    }
+
+    public Map<String, Object> statistics() {
+        Indexes current = indexes;
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("patients", current.patients().documentCount());
+        statistics.put("doctors", current.doctors().documentCount());
+        statistics.put("grams", current.patients().gramCount() + current.doctors().gramCount());
+        statistics.put("postings", current.patients().postingCount() + current.doctors().postingCount());
+        statistics.put("estimatedBytes", current.patients().estimatedBytes() + current.doctors().estimatedBytes());
+        statistics.put("lastRebuildMillis", lastRebuildMillis);
+        statistics.put("lastRebuiltAt", lastRebuiltAt);
+        return statistics;
+    }
+
+    private void apply(Consumer<Indexes> change) {
+        synchronized (changeLock) {
+            change.accept(indexes);
+            if(pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private void index(Indexes target, Doctor doctor) {
+        String name = doctor.getFirstName() + " " + doctor.getLastName();
+        target.doctors().put(
+                doctor.getId(),
+                new SearchHit(DOCTOR, doctor.getId(), name, doctor.getPhone(), doctor.getSpecialization()),
+                name,
+                Arrays.asList(name, doctor.getLastName(), doctor.getPhone(), doctor.getSpecialization())
+        );
+    }
+
+    private void index(Indexes target, PatientSummary patient) {
+        String name = patient.fname() + " " + patient.lname();
+        target.patients().put(
+                patient.id(),
+                new SearchHit(PATIENT, patient.id(), name, patient.phone(), null),
+                name,
+                Arrays.asList(name, patient.lname(), patient.phone())
+        );
+    }
+
+    private record Indexes(NGramIndex<SearchHit> patients, NGramIndex<SearchHit> doctors) {
+    }
+}
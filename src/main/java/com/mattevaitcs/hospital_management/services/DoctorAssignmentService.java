@@ -0,0 +1,165 @@
+package com.mattevaitcs.hospital_management.services;
+
+import com.mattevaitcs.hospital_management.dtos.DoctorPatientCount;
+import com.mattevaitcs.hospital_management.dtos.DoctorRosterEntry;
+import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
+import com.mattevaitcs.hospital_management.repositories.PatientRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Picks a primary doctor for new patients from an in-memory snapshot of the
+ * roster, so intake never loads the doctor table. The snapshot is marked stale
+ * by DoctorRosterListener whenever a doctor changes and is rebuilt on the next
+ * assignment. Patient counts used by LEAST_ASSIGNED are read at rebuild time
+ * and then tracked in memory, including deletions and reassignments reported
+ * through patientUnassigned and patientAssigned. A pick is counted straight away
+ * so concurrent intakes spread out, and taken back if its transaction rolls back.
+ */
+@Service
+@RequiredArgsConstructor
+public class DoctorAssignmentService {
+    public enum Strategy { RANDOM, ROUND_ROBIN, LEAST_ASSIGNED }
+
+    private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+
+    @Value("${doctor-assignment.strategy:ROUND_ROBIN}")
+    private Strategy strategy;
+
+    private volatile Roster roster;
+    private volatile boolean stale = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        // Cleared first so a change that lands while we read is not lost
+        stale = false;
+        Map<Long, Long> counts = new HashMap<>();
+        if(strategy == Strategy.LEAST_ASSIGNED) {
+            for (DoctorPatientCount count : patientRepository.countPatientsByPrimaryDoctor()) {
+                counts.put(count.doctorId(), count.patients());
+            }
+        }
+        roster = new Roster(doctorRepository.findRoster(), counts);
+    }
+
+    public void markStale() {
+        stale = true;
+    }
+
+    public OptionalLong chooseDoctorId() {
+        if(stale) {
+            synchronized (this) {
+                if(stale) {
+                    refresh();
+                }
+            }
+        }
+        Roster current = roster;
+        if(current.ids().length == 0) {
+            return OptionalLong.empty();
+        }
+        return switch (strategy) {
+            case RANDOM -> OptionalLong.of(current.ids()[ThreadLocalRandom.current().nextInt(current.ids().length)]);
+            case ROUND_ROBIN -> OptionalLong.of(current.ids()[(int) Math.floorMod(current.cursor().getAndIncrement(), current.ids().length)]);
+            case LEAST_ASSIGNED -> OptionalLong.of(assignLeastLoaded(current));
+        };
+    }
+
+    public void patientAssigned(long doctorId) {
+        adjustCount(doctorId, 1);
+    }
+
+    public void patientUnassigned(long doctorId) {
+        adjustCount(doctorId, -1);
+    }
+
+    private long assignLeastLoaded(Roster current) {
+        long doctorId = current.assignLeastLoaded();
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Undone on the roster it was counted in; a rebuilt roster re-reads committed counts
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if(status != STATUS_COMMITTED) {
+                        current.adjust(doctorId, -1);
+                    }
+                }
+            });
+        }
+        return doctorId;
+    }
+
+    // Applied once the caller's transaction commits, so a rolled back change never counts
+    private void adjustCount(long doctorId, long delta) {
+        if(strategy != Strategy.LEAST_ASSIGNED) {
+            return;
+        }
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCount(doctorId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyCount(doctorId, delta);
+            }
+        });
+    }
+
+    private void applyCount(long doctorId, long delta) {
+        Roster current = roster;
+        if(current != null) {
+            current.adjust(doctorId, delta);
+        }
+    }
+
+    private record Load(long patients, long doctorId) {
+        static final Comparator<Load> ORDER = Comparator.comparingLong(Load::patients)
+                .thenComparingLong(Load::doctorId);
+    }
+
+    private record Roster(long[] ids, AtomicLong cursor, TreeSet<Load> loads, Map<Long, Long> counts) {
+        Roster(List<DoctorRosterEntry> doctors, Map<Long, Long> counts) {
+            this(doctors.stream().mapToLong(DoctorRosterEntry::id).toArray(), new AtomicLong(), new TreeSet<>(Load.ORDER), counts);
+            for (long id : ids) {
+                counts.putIfAbsent(id, 0L);
+                loads.add(new Load(counts.get(id), id));
+            }
+        }
+
+        // O(log n): take the least loaded doctor and bump its count
+        synchronized long assignLeastLoaded() {
+            long doctorId = loads.first().doctorId();
+            adjust(doctorId, 1);
+            return doctorId;
+        }
+
+        synchronized void adjust(long doctorId, long delta) {
+            Long patients = counts.get(doctorId);
+            if(patients == null) {
+                return;
+            }
+            Load before = new Load(patients, doctorId);
+            Load after = new Load(Math.max(patients + delta, 0), doctorId);
+            counts.put(doctorId, after.patients());
+            if(loads.remove(before)) {
+                loads.add(after);
+            }
+        }
+    }
+}
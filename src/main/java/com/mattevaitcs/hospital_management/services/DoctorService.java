@@ -7,9 +7,11 @@ import com.mattevaitcs.hospital_management.dtos.UpdateDoctorRequest;
 import java.util.List;
 
 public interface DoctorService {
-    List<DoctorInformation> getAllDoctors();
+    List<DoctorInformation> getAllDoctors(boolean includePatients);
     DoctorInformation getDoctorById(long id);
-    List<DoctorInformation> getDoctorsBySpecialization(String specialization);
+    List<DoctorInformation> getDoctorsBySpecialization(String specialization, boolean includePatients);
+    List<String> getSpecializations();
+    List<DoctorInformation> searchDoctors(String department, String name, int page, int size);
     DoctorInformation createDoctor(PostNewDoctorRequest request);
     DoctorInformation updateDoctor(long id, UpdateDoctorRequest request);
     void deleteDoctorById(long id);
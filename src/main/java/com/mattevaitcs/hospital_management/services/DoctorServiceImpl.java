@@ -2,28 +2,40 @@ package com.mattevaitcs.hospital_management.services;
 
 
 import com.mattevaitcs.hospital_management.dtos.DoctorInformation;
+import com.mattevaitcs.hospital_management.dtos.PatientInformation;
 import com.mattevaitcs.hospital_management.dtos.PostNewDoctorRequest;
 import com.mattevaitcs.hospital_management.dtos.UpdateDoctorRequest;
 import com.mattevaitcs.hospital_management.entities.Doctor;
 import com.mattevaitcs.hospital_management.exceptions.DoctorNotFoundException;
 import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
+import com.mattevaitcs.hospital_management.repositories.PatientRepository;
 import com.mattevaitcs.hospital_management.utils.mappers.DoctorMapper;
+import com.mattevaitcs.hospital_management.utils.mappers.PatientMapper;
+import com.mattevaitcs.hospital_management.utils.search.LikePatterns;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DoctorServiceImpl implements DoctorService {
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
-    public List<DoctorInformation> getAllDoctors() {
-        return doctorRepository.findAll()
-                .stream()
-                .map(DoctorMapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<DoctorInformation> getAllDoctors(boolean includePatients) {
+        return toDtos(doctorRepository.findAll(), includePatients);
     }
 
     @Override
@@ -33,11 +45,32 @@ public class DoctorServiceImpl implements DoctorService {
     }
 
     @Override
-    public List<DoctorInformation> getDoctorsBySpecialization(String specialization) {
-        return doctorRepository.findAllBySpecializationIgnoreCase(specialization)
-                .stream()
-                .map(DoctorMapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<DoctorInformation> getDoctorsBySpecialization(String specialization, boolean includePatients) {
+        return toDtos(doctorRepository.findAllBySpecializationLower(specialization.toLowerCase()), includePatients);
+    }
+
+    @Override
+    public List<String> getSpecializations() {
+        return doctorRepository.findDistinctSpecializations();
+    }
+
+    @Override
+    public List<DoctorInformation> searchDoctors(String department, String name, int page, int size) {
+        String dept = normalize(department);
+        String namePrefix = normalize(name);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_SEARCH_RESULTS));
+        List<Doctor> doctors;
+        if(dept != null && namePrefix != null) {
+            doctors = doctorRepository.searchByDepartmentAndName(dept, LikePatterns.escapeLike(namePrefix), pageRequest);
+        } else if(dept != null) {
+            doctors = doctorRepository.searchByDepartment(dept, pageRequest);
+        } else if(namePrefix != null) {
+            doctors = doctorRepository.searchByName(LikePatterns.escapeLike(namePrefix), pageRequest);
+        } else {
+            doctors = doctorRepository.searchAll(pageRequest);
+        }
+        return toDtos(doctors, false);
     }
 
     @Override
@@ -55,7 +88,9 @@ public class DoctorServiceImpl implements DoctorService {
         doctor.setPhone(request.phone());
         doctor.setDepartment(request.department());
         doctor.setSpecialization(request.specialization());
-        return DoctorMapper.toDto(doctorRepository.save(doctor));
+        DoctorInformation updated = DoctorMapper.toDto(doctorRepository.save(doctor));
+        evictFromCache(id);
+        return updated;
     }
 
     @Override
@@ -64,5 +99,40 @@ public class DoctorServiceImpl implements DoctorService {
             throw new DoctorNotFoundException("Doctor with the id " + id + " not found!");
         }
         doctorRepository.deleteById(id);
+        evictFromCache(id);
+    }
+
+    /*
+     * Loads the primary patients of every doctor in one ID-IN query instead of
+     * touching each doctor's lazy collection, so a listing costs two statements
+     * no matter how many doctors it holds.
+     */
+    private List<DoctorInformation> toDtos(List<Doctor> doctors, boolean includePatients) {
+        if(!includePatients || doctors.isEmpty()) {
+            return doctors.stream()
+                    .map(doctor -> DoctorMapper.toDto(doctor, null))
+                    .toList();
+        }
+        Map<Long, List<PatientInformation>> patientsByDoctor = patientRepository
+                .findAllByPrimaryDoctorIdIn(doctors.stream().map(Doctor::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        patient -> patient.getPrimaryDoctor().getId(),
+                        Collectors.mapping(PatientMapper::toDto, Collectors.toList())
+                ));
+        return doctors.stream()
+                .map(doctor -> DoctorMapper.toDto(doctor, patientsByDoctor.get(doctor.getId())))
+                .toList();
+    }
+
+    private void evictFromCache(long id) {
+        entityManagerFactory.getCache().evict(Doctor.class, id);
+        entityManagerFactory.unwrap(SessionFactory.class)
+                .getCache()
+                .evictDefaultQueryRegion();
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.strip().toLowerCase();
     }
 }
@@ -2,9 +2,11 @@ package com.mattevaitcs.hospital_management.services;
 
 import com.mattevaitcs.hospital_management.entities.UserCredential;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -20,11 +22,27 @@ import java.util.function.Function;
 @Service
 @RequiredArgsConstructor
 public class JwtService {
+    public static final Duration TOKEN_VALIDITY = Duration.ofHours(1);
+
     private final UserDetailsService userDetailsService;
 
     @Value("${jwt.secret}")
     private String jwtSecret;
 
+    // Both are immutable and thread-safe, so they are built once instead of per token
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        byte[] encodedKey = Decoders.BASE64.decode(jwtSecret);
+        secretKey = Keys.hmacShaKeyFor(encodedKey);
+        jwtParser = Jwts
+                .parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
     public String generateToken(String email) {
         UserCredential userCredential = (UserCredential) userDetailsService.loadUserByUsername(email);
         Map<String, Object> claims = new HashMap<>();
@@ -41,12 +59,22 @@ public class JwtService {
     }
 
     public boolean validateToken(String token, UserCredential userCredential) {
-        final String email = extractEmail(token);
-        return (email.equalsIgnoreCase(userCredential.getEmail()) && !isTokenExpired(token));
+        return validateToken(extractAllClaims(token), userCredential);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean validateToken(Claims claims, UserCredential userCredential) {
+        final String email = claims.getSubject();
+        return (email.equalsIgnoreCase(userCredential.getEmail()) && !isTokenExpired(claims));
+    }
+
+    public Claims extractAllClaims(String token) {
+        return jwtParser
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
@@ -54,28 +82,14 @@ public class JwtService {
         return claimResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
     private String generateToken(Map<String, Object> claims, UserCredential userCredential) {
         return Jwts
                 .builder()
                 .claims(claims)
                 .subject(userCredential.getEmail())
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
-                .signWith(getSecretKey())
+                .expiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY.toMillis()))
+                .signWith(secretKey)
                 .compact();
     }
-
-    private SecretKey getSecretKey() {
-        byte[] encodedKey = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(encodedKey);
-    }
 }
@@ -0,0 +1,124 @@
+package com.mattevaitcs.hospital_management.services;
+
+import com.mattevaitcs.hospital_management.dtos.BulkImportError;
+import com.mattevaitcs.hospital_management.dtos.BulkImportResult;
+import com.mattevaitcs.hospital_management.dtos.BulkPatientRow;
+import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
+import com.mattevaitcs.hospital_management.entities.Doctor;
+import com.mattevaitcs.hospital_management.entities.Patient;
+import com.mattevaitcs.hospital_management.exceptions.QueryBudgetExceededException;
+import com.mattevaitcs.hospital_management.utils.mappers.PatientMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * Bulk patient intake. Every row is validated against the PostNewPatientRequest
+ * constraints first; valid rows are then persisted in chunks, one transaction
+ * per chunk, flushing every hibernate.jdbc.batch_size rows so the inserts go
+ * out as JDBC batches. A chunk that fails to save is bisected and retried in
+ * fresh transactions, so only the rows that really fail are reported and the
+ * rest of the chunk is still imported.
+ */
+@Service
+@RequiredArgsConstructor
+public class PatientImportService {
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final DoctorAssignmentService doctorAssignmentService;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${patient-import.chunk-size:1000}")
+    private int chunkSize;
+
+    public BulkImportResult importPatients(List<BulkPatientRow> rows) {
+        List<BulkImportError> errors = new ArrayList<>();
+        List<BulkPatientRow> valid = new ArrayList<>();
+        for (BulkPatientRow row : rows) {
+            if(row.parseError() != null) {
+                errors.add(new BulkImportError(row.row(), List.of(row.parseError())));
+                continue;
+            }
+            if(row.request() == null) {
+                errors.add(new BulkImportError(row.row(), List.of("Row is empty")));
+                continue;
+            }
+            List<String> violations = validator.validate(row.request())
+                    .stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+            if(violations.isEmpty()) {
+                valid.add(row);
+            } else {
+                errors.add(new BulkImportError(row.row(), violations));
+            }
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int imported = 0;
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<BulkPatientRow> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            imported += importChunk(transactionTemplate, chunk, errors);
+        }
+        errors.sort(Comparator.comparingInt(BulkImportError::row));
+        return new BulkImportResult(rows.size(), imported, errors);
+    }
+
+    // A bad row costs O(log chunk-size) extra transactions instead of failing its whole chunk
+    private int importChunk(TransactionTemplate transactionTemplate, List<BulkPatientRow> chunk, List<BulkImportError> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(chunk));
+            return chunk.size();
+        } catch (RuntimeException e) {
+            // Retrying cannot succeed once the request is over budget, so let it fail the request
+            if(isBudgetExceeded(e)) {
+                throw e;
+            }
+            if(chunk.size() == 1) {
+                errors.add(new BulkImportError(chunk.getFirst().row(), List.of("Could not be saved: " + e.getMessage())));
+                return 0;
+            }
+            int middle = chunk.size() / 2;
+            return importChunk(transactionTemplate, chunk.subList(0, middle), errors)
+                    + importChunk(transactionTemplate, chunk.subList(middle, chunk.size()), errors);
+        }
+    }
+
+    private static boolean isBudgetExceeded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if(cause instanceof QueryBudgetExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void persist(List<BulkPatientRow> chunk) {
+        for (int i = 0; i < chunk.size(); i++) {
+            PostNewPatientRequest request = chunk.get(i).request();
+            Patient patient = PatientMapper.toEntity(request);
+            doctorAssignmentService.chooseDoctorId()
+                    .ifPresent(doctorId -> patient.setPrimaryDoctor(entityManager.getReference(Doctor.class, doctorId)));
+            entityManager.persist(patient);
+            if((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,14 +1,19 @@
 package com.mattevaitcs.hospital_management.services;
 
 import com.mattevaitcs.hospital_management.dtos.PatientInformation;
+import com.mattevaitcs.hospital_management.dtos.PatientPage;
 import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
 import com.mattevaitcs.hospital_management.dtos.UpdatePatientRequest;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PatientService {
     PatientInformation createPatient(PostNewPatientRequest request);
     List<PatientInformation> getAllPatients();
+    PatientPage getPatientsPage(int size, String sort, String cursor);
+    void exportPatients(Consumer<PatientInformation> consumer);
+    List<PatientInformation> searchPatients(String query, int limit);
     PatientInformation getPatientById(long id);
     void deletePatientById(long id);
     PatientInformation updatePatient(long id, UpdatePatientRequest request);
@@ -1,37 +1,117 @@
 package com.mattevaitcs.hospital_management.services;
 
 import com.mattevaitcs.hospital_management.dtos.PatientInformation;
+import com.mattevaitcs.hospital_management.dtos.PatientPage;
+import com.mattevaitcs.hospital_management.dtos.PatientSummary;
 import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
 import com.mattevaitcs.hospital_management.dtos.UpdatePatientRequest;
+import com.mattevaitcs.hospital_management.entities.Doctor;
 import com.mattevaitcs.hospital_management.entities.Patient;
 import com.mattevaitcs.hospital_management.exceptions.DoctorNotFoundException;
+import com.mattevaitcs.hospital_management.exceptions.InvalidCursorException;
 import com.mattevaitcs.hospital_management.exceptions.PatientNotFoundException;
 import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
 import com.mattevaitcs.hospital_management.repositories.PatientRepository;
 import com.mattevaitcs.hospital_management.utils.mappers.PatientMapper;
+import com.mattevaitcs.hospital_management.utils.search.LikePatterns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Primary
 @RequiredArgsConstructor
 public class PatientServiceImpl implements PatientService{
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MIN_SEARCH_LENGTH = 2;
+    private static final String SORT_BY_ID = "id";
+    private static final String SORT_BY_LAST_NAME = "lastName";
+
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
+    private final DoctorAssignmentService doctorAssignmentService;
 
     @Override
+    @Transactional
     public PatientInformation createPatient(PostNewPatientRequest request) {
         Patient newPatient = PatientMapper.toEntity(request);
-        newPatient = patientRepository.save(newPatient);
-        return PatientMapper.toDto(newPatient);
+        doctorAssignmentService.chooseDoctorId()
+                .ifPresent(doctorId -> newPatient.setPrimaryDoctor(doctorRepository.getReferenceById(doctorId)));
+        return PatientMapper.toDto(patientRepository.save(newPatient));
     }
 
     @Override
     public List<PatientInformation> getAllPatients() {
-        return patientRepository.findAll()
+        return patientRepository.findAllSummaries()
+                .stream()
+                .map(PatientMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public PatientPage getPatientsPage(int size, String sort, String cursor) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // One extra row tells us whether another page exists without a COUNT query
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        String[] position = decodeCursor(cursor, sort);
+
+        List<PatientSummary> rows = switch (sort) {
+            case SORT_BY_ID -> patientRepository.findSummariesAfterId(
+                    position == null ? 0 : Long.parseLong(position[0]),
+                    limit
+            );
+            case SORT_BY_LAST_NAME -> patientRepository.findSummariesAfterLastName(
+                    position == null ? "" : position[0],
+                    position == null ? 0 : Long.parseLong(position[1]),
+                    limit
+            );
+            default -> throw new InvalidCursorException(
+                    "Unsupported sort '" + sort + "', expected " + SORT_BY_ID + " or " + SORT_BY_LAST_NAME
+            );
+        };
+
+        String nextCursor = null;
+        if(rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = encodeCursor(sort, rows.get(pageSize - 1));
+        }
+        return new PatientPage(
+                rows.stream()
+                        .map(PatientMapper::toDto)
+                        .toList(),
+                pageSize,
+                sort,
+                nextCursor
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPatients(Consumer<PatientInformation> consumer) {
+        // Rows are unmanaged projections, so the persistence context does not grow while streaming
+        try (Stream<PatientSummary> summaries = patientRepository.streamAllSummaries()) {
+            summaries.map(PatientMapper::toDto)
+                    .forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<PatientInformation> searchPatients(String query, int limit) {
+        String term = query == null ? "" : query.strip().toLowerCase();
+        if(term.length() < MIN_SEARCH_LENGTH) {
+            return List.of();
+        }
+        return patientRepository.searchSummaries(term, LikePatterns.escapeLike(term), PageRequest.ofSize(Math.clamp(limit, 1, MAX_SEARCH_RESULTS)))
                 .stream()
                 .map(PatientMapper::toDto)
                 .toList();
@@ -39,7 +119,7 @@ public class PatientServiceImpl implements PatientService{
 
     @Override
     public PatientInformation getPatientById(long id) {
-        return patientRepository.findById(id)
+        return patientRepository.findSummaryById(id)
                 .map(PatientMapper::toDto)
                 .orElseThrow(() -> new PatientNotFoundException("Patient with id " + id + " not found"));
     }
@@ -48,7 +128,9 @@ public class PatientServiceImpl implements PatientService{
     public void deletePatientById(long id) {
         if(!patientRepository.existsById(id))
             throw new PatientNotFoundException("Patient with id of " + id + " not found!");
+        Optional<Long> primaryDoctorId = patientRepository.findPrimaryDoctorIdById(id);
         patientRepository.deleteById(id);
+        primaryDoctorId.ifPresent(doctorId -> doctorAssignmentService.patientUnassigned(doctorId));
     }
 
     @Override
@@ -60,12 +142,20 @@ public class PatientServiceImpl implements PatientService{
                             patient.setPhone(request.phoneNumber());
                             patient.setAddress(request.address());
                             patient.setAllergies(request.allergies());
+                            Doctor previousDoctor = patient.getPrimaryDoctor();
                             patient.setPrimaryDoctor(doctorRepository.findById(request.doctorId()).orElseThrow(() ->
                                     new DoctorNotFoundException("Doctor with id of "
                                             + request.doctorId() +
                                             " not found!")
                             ));
-                            return patientRepository.save(patient);
+                            Patient saved = patientRepository.save(patient);
+                            if(previousDoctor == null || previousDoctor.getId() != request.doctorId()) {
+                                if(previousDoctor != null) {
+                                    doctorAssignmentService.patientUnassigned(previousDoctor.getId());
+                                }
+                                doctorAssignmentService.patientAssigned(request.doctorId());
+                            }
+                            return saved;
                         }
                 )
                 .orElseThrow(() -> new PatientNotFoundException("Patient with id of " +
@@ -73,4 +163,32 @@ public class PatientServiceImpl implements PatientService{
                         " not found!"))
         );
     }
+
+    private static String encodeCursor(String sort, PatientSummary last) {
+        String position = SORT_BY_LAST_NAME.equals(sort)
+                ? sort + "\n" + last.lname() + "\n" + last.id()
+                : sort + "\n" + last.id();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor, String sort) {
+        if(cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n");
+            int expectedParts = SORT_BY_LAST_NAME.equals(sort) ? 3 : 2;
+            if(parts.length != expectedParts || !parts[0].equals(sort)) {
+                throw new InvalidCursorException("Cursor does not belong to sort '" + sort + "'");
+            }
+            Long.parseLong(parts[parts.length - 1]);
+            String[] position = new String[parts.length - 1];
+            System.arraycopy(parts, 1, position, 0, position.length);
+            return position;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
 }
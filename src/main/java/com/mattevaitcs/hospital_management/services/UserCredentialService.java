@@ -1,9 +1,11 @@
 package com.mattevaitcs.hospital_management.services;
 
+import com.mattevaitcs.hospital_management.config.TokenRevocationList;
 import com.mattevaitcs.hospital_management.dtos.AuthRequest;
 import com.mattevaitcs.hospital_management.dtos.UserInformation;
 import com.mattevaitcs.hospital_management.entities.UserCredential;
 import com.mattevaitcs.hospital_management.entities.enums.HospitalRole;
+import com.mattevaitcs.hospital_management.exceptions.UserCredentialNotFoundException;
 import com.mattevaitcs.hospital_management.repositories.UserCredentialRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,17 +20,41 @@ public class UserCredentialService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationList tokenRevocationList;
 
     public UserInformation createUserCredentials(AuthRequest authRequest) {
+        boolean replacing = userCredentialRepository.existsById(authRequest.email().toLowerCase());
         UserCredential userCredential = UserCredential.builder()
                 .email(authRequest.email().toLowerCase())
                 .password(passwordEncoder.encode(authRequest.password()))
                 .role(HospitalRole.PATIENT)
                 .build();
         userCredential = userCredentialRepository.save(userCredential);
+        // Registering over an existing account changes its password, so its old tokens must stop working
+        if(replacing) {
+            tokenRevocationList.revoke(userCredential.getEmail());
+        }
         return new UserInformation(userCredential.getEmail());
     }
 
+    public void deleteUserCredentials(String email) {
+        String id = email.toLowerCase();
+        if(!userCredentialRepository.existsById(id)) {
+            throw new UserCredentialNotFoundException("User with the email " + email + " not found");
+        }
+        userCredentialRepository.deleteById(id);
+        tokenRevocationList.revoke(id);
+    }
+
+    /* Disables every token issued to the account so far without deleting it. */
+    public void revokeTokens(String email) {
+        String id = email.toLowerCase();
+        if(!userCredentialRepository.existsById(id)) {
+            throw new UserCredentialNotFoundException("User with the email " + email + " not found");
+        }
+        tokenRevocationList.revoke(id);
+    }
+
     public String login(AuthRequest request) {
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
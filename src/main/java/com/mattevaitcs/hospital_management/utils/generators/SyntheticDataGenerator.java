@@ -0,0 +1,251 @@
+package com.mattevaitcs.hospital_management.utils.generators;
+
+import com.github.javafaker.Faker;
+import com.mattevaitcs.hospital_management.dtos.AuthRequest;
+import com.mattevaitcs.hospital_management.entities.Appointment;
+import com.mattevaitcs.hospital_management.entities.Doctor;
+import com.mattevaitcs.hospital_management.entities.Patient;
+import com.mattevaitcs.hospital_management.entities.enums.BiologicalSex;
+import com.mattevaitcs.hospital_management.entities.enums.Status;
+import com.mattevaitcs.hospital_management.repositories.UserCredentialRepository;
+import com.mattevaitcs.hospital_management.services.UserCredentialService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Load-test data generator, only active under the "loadtest" profile.
+ * Work is split into fixed-size chunks; every chunk derives its own Random from
+ * the configured seed and its index, so the generated data is identical for a
+ * given seed no matter how chunks are scheduled across threads or on which day
+ * it runs, since dates hang off loadtest.generator.anchor-date, not the clock.
+ * Each chunk is persisted in its own transaction and then discarded, so memory
+ * stays flat. It replaces the sample seed in HospitalManagementApplication, so it
+ * also creates the login the load tests authenticate with.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements ApplicationRunner {
+    private static final List<String> SPECIALIZATIONS = List.of(
+            "Cardiology", "Dermatology", "Endocrinology", "Gastroenterology", "Hematology",
+            "Neurology", "Obstetrics and Gynecology", "Oncology", "Ophthalmology", "Orthopedics",
+            "Otolaryngology (ENT)", "Pediatrics", "Psychiatry", "Pulmonology", "Radiology",
+            "Rheumatology", "Surgery", "Urology"
+    );
+    private static final long DOCTOR_STREAM = 0x5DEECE66DL;
+    private static final long PATIENT_STREAM = 0xB5297A4DL;
+    // Appointments span a year either side of the anchor date, half-hourly from 08:00 to 17:30
+    private static final int APPOINTMENT_DAYS = 730;
+    private static final int APPOINTMENT_SLOTS_PER_DAY = 20;
+    // Odd prime coprime with any realistic slot space, so multiplying permutes it
+    private static final long SLOT_SCRAMBLE = 2654435761L;
+    private static final AuthRequest LOGIN = new AuthRequest("admin@horrorcore.com", "Gudmord92!");
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final UserCredentialRepository userCredentialRepository;
+    private final UserCredentialService userCredentialService;
+
+    @Value("${loadtest.generator.doctors:1000}")
+    private int doctorCount;
+
+    @Value("${loadtest.generator.patients:100000}")
+    private long patientCount;
+
+    @Value("${loadtest.generator.appointments-per-patient:4}")
+    private int appointmentsPerPatient;
+
+    @Value("${loadtest.generator.seed:42}")
+    private long seed;
+
+    @Value("${loadtest.generator.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${loadtest.generator.threads:0}")
+    private int threads;
+
+    @Value("${loadtest.generator.anchor-date:2026-01-01}")
+    private String anchorDate;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        checkSlotSpace();
+        long start = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        List<Long> doctorIds = new ArrayList<>(doctorCount);
+        for (int from = 0; from < doctorCount; from += chunkSize) {
+            int chunk = from / chunkSize;
+            int rows = Math.min(chunkSize, doctorCount - from);
+            doctorIds.addAll(transactionTemplate.execute(status -> insertDoctors(chunk, rows)));
+        }
+        long[] doctors = doctorIds.stream().mapToLong(Long::longValue).toArray();
+        log.info("Generated {} doctors", doctors.length);
+
+        AtomicLong patientsDone = new AtomicLong();
+        AtomicLong appointmentsDone = new AtomicLong();
+        long chunks = (patientCount + chunkSize - 1) / chunkSize;
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long index = chunk;
+                int rows = (int) Math.min(chunkSize, patientCount - chunk * chunkSize);
+                futures.add(executor.submit(() -> {
+                    long appointments = transactionTemplate.execute(status -> insertPatients(index, rows, doctors));
+                    long done = patientsDone.addAndGet(rows);
+                    appointmentsDone.addAndGet(appointments);
+                    if(index % 100 == 0) {
+                        log.info("Generated {}/{} patients", done, patientCount);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        log.info("Generated {} doctors, {} patients and {} appointments with seed {} in {} s",
+                doctors.length, patientsDone.get(), appointmentsDone.get(), seed,
+                (System.nanoTime() - start) / 1_000_000_000);
+        if(!userCredentialRepository.existsById(LOGIN.email())) {
+            userCredentialService.createUserCredentials(LOGIN);
+        }
+    }
+
+    private List<Long> insertDoctors(int chunk, int rows) {
+        Random random = new Random(chunkSeed(DOCTOR_STREAM, chunk));
+        Faker faker = new Faker(Locale.US, random);
+        List<Doctor> doctors = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Doctor doctor = Doctor.builder()
+                    .firstName(faker.name().firstName())
+                    .lastName(faker.name().lastName())
+                    .department(faker.medical().hospitalName())
+                    .phone(faker.phoneNumber().cellPhone())
+                    .specialization(SPECIALIZATIONS.get(random.nextInt(SPECIALIZATIONS.size())))
+                    .build();
+            entityManager.persist(doctor);
+            doctors.add(doctor);
+            flushEvery(i + 1);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return doctors.stream().map(Doctor::getId).toList();
+    }
+
+    /*
+    * insertPatients maps (patient, visit) keys onto (doctor, day, slot) by multiplying with
+    * SLOT_SCRAMBLE modulo the slot space. That only stays collision free while every key
+    * fits in the slot space and the product cannot overflow, so refuse to start otherwise
+    * */
+    private void checkSlotSpace() {
+        if(appointmentsPerPatient <= 0 || doctorCount <= 0) {
+            return;
+        }
+        long keys = patientCount * (appointmentsPerPatient * 2L + 1);
+        long slotSpace = (long) doctorCount * APPOINTMENT_DAYS * APPOINTMENT_SLOTS_PER_DAY;
+        if(keys > slotSpace) {
+            throw new IllegalStateException("loadtest.generator needs up to " + keys + " appointment slots but "
+                    + doctorCount + " doctors only have " + slotSpace + "; add doctors or lower patients or appointments-per-patient");
+        }
+        if(keys > Long.MAX_VALUE / SLOT_SCRAMBLE || slotSpace % SLOT_SCRAMBLE == 0) {
+            throw new IllegalStateException("loadtest.generator slot space of " + slotSpace + " cannot be scrambled without collisions");
+        }
+    }
+
+    private long insertPatients(long chunk, int rows, long[] doctorIds) {
+        Random random = new Random(chunkSeed(PATIENT_STREAM, chunk));
+        Faker faker = new Faker(Locale.US, random);
+        LocalDate anchor = LocalDate.parse(anchorDate);
+        long appointments = 0;
+        int pending = 0;
+        for (int i = 0; i < rows; i++) {
+            Doctor primaryDoctor = doctorIds.length == 0
+                    ? null
+                    : entityManager.getReference(Doctor.class, doctorIds[random.nextInt(doctorIds.length)]);
+            Patient patient = new Patient(
+                    0,
+                    faker.name().firstName(),
+                    faker.name().lastName(),
+                    anchor.minusYears(1 + random.nextInt(90)).minusDays(random.nextInt(365)),
+                    BiologicalSex.values()[random.nextInt(BiologicalSex.values().length)],
+                    faker.numerify("##########"),
+                    faker.address().fullAddress(),
+                    List.of(faker.medical().diseaseName()),
+                    primaryDoctor,
+                    null
+            );
+            entityManager.persist(patient);
+            pending++;
+
+            int maxVisits = appointmentsPerPatient * 2 + 1;
+            int visits = appointmentsPerPatient <= 0 || doctorIds.length == 0 ? 0 : random.nextInt(maxVisits);
+            for (int v = 0; v < visits; v++) {
+                /*
+                * Every (patient, visit) pair maps to a distinct (doctor, day, slot) so the
+                * generated schedule never double-books and passes the slot unique index
+                * */
+                long slotSpace = (long) doctorIds.length * APPOINTMENT_DAYS * APPOINTMENT_SLOTS_PER_DAY;
+                long key = (chunk * chunkSize + i) * maxVisits + v;
+                long slot = Math.floorMod(key * SLOT_SCRAMBLE, slotSpace);
+                int doctor = (int) (slot % doctorIds.length);
+                long daySlot = slot / doctorIds.length;
+                int halfHour = (int) (daySlot % APPOINTMENT_SLOTS_PER_DAY);
+                entityManager.persist(Appointment.builder()
+                        .patient(patient)
+                        .doctor(entityManager.getReference(Doctor.class, doctorIds[doctor]))
+                        .date(anchor.plusDays(daySlot / APPOINTMENT_SLOTS_PER_DAY - APPOINTMENT_DAYS / 2))
+                        .time(LocalTime.of(8 + halfHour / 2, halfHour % 2 == 0 ? 0 : 30))
+                        .status(Status.values()[random.nextInt(Status.values().length)])
+                        .build());
+                pending++;
+            }
+            appointments += visits;
+            if(pending >= batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return appointments;
+    }
+
+    private void flushEvery(int rows) {
+        if(rows % batchSize == 0) {
+            entityManager.flush();
+        }
+    }
+
+    private long chunkSeed(long stream, long chunk) {
+        // SplitMix64 finalizer so neighbouring chunks get unrelated sequences
+        long z = seed ^ stream ^ (chunk * 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
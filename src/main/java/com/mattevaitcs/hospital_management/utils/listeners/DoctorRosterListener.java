@@ -0,0 +1,41 @@
+package com.mattevaitcs.hospital_management.utils.listeners;
+
+import com.mattevaitcs.hospital_management.services.DoctorAssignmentService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * Marks the assignment roster stale once a doctor change has committed. Marking it
+ * at flush time would let a concurrent refresh reload the old roster and clear the flag.
+ */
+@Component
+@RequiredArgsConstructor
+public class DoctorRosterListener {
+    private final ObjectProvider<DoctorAssignmentService> doctorAssignmentService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object doctor) {
+        DoctorAssignmentService service = doctorAssignmentService.getIfAvailable();
+        if(service == null) {
+            return;
+        }
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            service.markStale();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                service.markStale();
+            }
+        });
+    }
+}
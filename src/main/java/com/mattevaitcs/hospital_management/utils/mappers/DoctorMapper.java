@@ -1,12 +1,22 @@
 package com.mattevaitcs.hospital_management.utils.mappers;
 
 import com.mattevaitcs.hospital_management.dtos.DoctorInformation;
+import com.mattevaitcs.hospital_management.dtos.PatientInformation;
 import com.mattevaitcs.hospital_management.dtos.PostNewDoctorRequest;
 import com.mattevaitcs.hospital_management.entities.Doctor;
 
+import java.util.List;
+
 public class DoctorMapper {
     public static DoctorInformation toDto(Doctor doctor) {
-        if(doctor.getPrimaryPatients().isEmpty()) {
+        return toDto(doctor, doctor.getPrimaryPatients()
+                .stream()
+                .map(PatientMapper::toDto)
+                .toList());
+    }
+
+    public static DoctorInformation toDto(Doctor doctor, List<PatientInformation> patients) {
+        if(patients == null || patients.isEmpty()) {
             return new DoctorInformation(
                     doctor.getId(),
                     doctor.getFirstName(),
@@ -23,10 +33,7 @@ public class DoctorMapper {
                 doctor.getDepartment(),
                 doctor.getPhone(),
                 doctor.getSpecialization(),
-                doctor.getPrimaryPatients()
-                        .stream()
-                        .map(PatientMapper::toDto)
-                        .toList()
+                patients
         );
     }
 
@@ -0,0 +1,99 @@
+package com.mattevaitcs.hospital_management.utils.mappers;
+
+import com.mattevaitcs.hospital_management.dtos.BulkPatientRow;
+import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Reads bulk patient intake CSV. The first line is a header with the columns
+ * firstName,lastName,dateOfBirth,biologicalSex,phone,address,allergies in that
+ * order. Fields may be double-quoted (e.g. an address or allergy list holding
+ * commas) with "" as an escaped quote. Rows are numbered from 1 after the header.
+ */
+public class PatientCsvReader {
+    private static final int COLUMNS = 7;
+
+    public static List<BulkPatientRow> read(String csv) {
+        List<BulkPatientRow> rows = new ArrayList<>();
+        List<List<String>> records = parse(csv);
+        for (int i = 1; i < records.size(); i++) {
+            List<String> fields = records.get(i);
+            if(fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            rows.add(toRow(i, fields));
+        }
+        return rows;
+    }
+
+    private static BulkPatientRow toRow(int row, List<String> fields) {
+        if(fields.size() != COLUMNS) {
+            return new BulkPatientRow(row, null, "Expected " + COLUMNS + " columns but found " + fields.size());
+        }
+        LocalDate dateOfBirth = null;
+        if(!fields.get(2).isBlank()) {
+            try {
+                dateOfBirth = LocalDate.parse(fields.get(2).strip());
+            } catch (DateTimeParseException e) {
+                return new BulkPatientRow(row, null, "Date of birth must be formatted as yyyy-MM-dd");
+            }
+        }
+        return new BulkPatientRow(row, new PostNewPatientRequest(
+                blankToNull(fields.get(0)),
+                blankToNull(fields.get(1)),
+                dateOfBirth,
+                blankToNull(fields.get(3)),
+                blankToNull(fields.get(4)),
+                blankToNull(fields.get(5)),
+                fields.get(6).strip()
+        ));
+    }
+
+    private static String blankToNull(String value) {
+        return value.isBlank() ? null : value.strip();
+    }
+
+    private static List<List<String>> parse(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if(quoted) {
+                if(c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if(c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if(c == '"') {
+                quoted = true;
+            } else if(c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if(c == '\n' || c == '\r') {
+                if(c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                fields.add(field.toString());
+                field.setLength(0);
+                records.add(fields);
+                fields = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if(field.length() > 0 || !fields.isEmpty()) {
+            fields.add(field.toString());
+            records.add(fields);
+        }
+        return records;
+    }
+}
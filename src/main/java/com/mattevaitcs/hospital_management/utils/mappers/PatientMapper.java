@@ -1,6 +1,7 @@
 package com.mattevaitcs.hospital_management.utils.mappers;
 
 import com.mattevaitcs.hospital_management.dtos.PatientInformation;
+import com.mattevaitcs.hospital_management.dtos.PatientSummary;
 import com.mattevaitcs.hospital_management.dtos.PostNewPatientRequest;
 import com.mattevaitcs.hospital_management.entities.Patient;
 import com.mattevaitcs.hospital_management.entities.enums.BiologicalSex;
@@ -19,7 +20,9 @@ public class PatientMapper {
                 BiologicalSex.valueOf(request.biologicalSex().toUpperCase()),
                 request.phone(),
                 request.address(),
-                List.of(request.allergies().split(",")),
+                request.allergies() == null || request.allergies().isBlank()
+                        ? List.of()
+                        : List.of(request.allergies().split(",")),
                 null, null
         );
     }
@@ -37,6 +40,19 @@ public class PatientMapper {
         );
     }
 
+    public static PatientInformation toDto(PatientSummary summary) {
+        return new PatientInformation(
+                summary.id(),
+                summary.fname(),
+                summary.lname(),
+                summary.phone(),
+                summary.address(),
+                summary.dob().toString(),
+                summary.biologicalSex().name(),
+                String.join(",", summary.allergies())
+        );
+    }
+
     public static Patient toEntity(PatientInformation patientInformation) {
         return new Patient(
                 patientInformation.id(),
@@ -0,0 +1,38 @@
+package com.mattevaitcs.hospital_management.utils.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/*
+ * Registered through hibernate.session.events.auto, so Hibernate creates one per session.
+ * Statement and batch executions on a session never overlap, so a single start mark is enough.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestQueryContext context = RequestQueryContext.current();
+        if (context != null) {
+            context.jdbcExecuted(System.nanoTime() - executionStart);
+        }
+    }
+}
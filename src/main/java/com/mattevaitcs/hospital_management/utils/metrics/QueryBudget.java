@@ -0,0 +1,120 @@
+package com.mattevaitcs.hospital_management.utils.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Per-request SQL budget (query-budget.*). LOG reports requests over max-statements or
+ * max-jdbc-millis; REJECT also aborts a request at its first statement past
+ * max-statements. Breaches are kept per endpoint, with the worst request observed for
+ * each, so the chattiest endpoints can be listed on the querybudget actuator endpoint.
+ * Paths matching query-budget.exempt, such as bulk imports whose statement count grows
+ * with the payload, are measured but never budgeted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryBudget {
+    public enum Mode { OFF, LOG, REJECT }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Offender> offenders = new ConcurrentHashMap<>();
+
+    @Value("${query-budget.mode:LOG}")
+    private Mode mode;
+
+    @Value("${query-budget.max-statements:50}")
+    private int maxStatements;
+
+    @Value("${query-budget.max-jdbc-millis:500}")
+    private long maxJdbcMillis;
+
+    @Value("${query-budget.offenders:20}")
+    private int offenderLimit;
+
+    @Value("${query-budget.exempt:/api/v1/patient/bulk}")
+    private List<String> exempt;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public boolean isExempt(String path) {
+        return exempt.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    public int statementLimit() {
+        return mode == Mode.REJECT ? maxStatements : Integer.MAX_VALUE;
+    }
+
+    public void evaluate(String endpoint, RequestQueryContext context) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        boolean chatty = context.getStatements() > maxStatements;
+        boolean slow = context.getJdbcMillis() > maxJdbcMillis;
+        if (!chatty && !slow) {
+            return;
+        }
+        log.warn("{} exceeded its query budget: {} statements, {} entities loaded, {} ms in JDBC",
+                endpoint, context.getStatements(), context.getEntitiesLoaded(), context.getJdbcMillis());
+        meterRegistry.counter("query.budget.exceeded",
+                "uri", endpoint,
+                "reason", chatty ? "statements" : "jdbc-time"
+        ).increment();
+        offenders.merge(endpoint, Offender.of(endpoint, context), Offender::combine);
+    }
+
+    public List<Offender> worstOffenders() {
+        return offenders.values()
+                .stream()
+                .sorted(Comparator.comparingInt(Offender::statements)
+                        .thenComparingLong(Offender::jdbcMillis)
+                        .reversed())
+                .limit(offenderLimit)
+                .toList();
+    }
+
+    public void reset() {
+        offenders.clear();
+    }
+
+    public record Offender(
+            String endpoint,
+            int statements,
+            int entitiesLoaded,
+            long jdbcMillis,
+            long breaches,
+            Instant lastSeen
+    ) {
+        static Offender of(String endpoint, RequestQueryContext context) {
+            return new Offender(
+                    endpoint,
+                    context.getStatements(),
+                    context.getEntitiesLoaded(),
+                    context.getJdbcMillis(),
+                    1,
+                    Instant.now()
+            );
+        }
+
+        Offender combine(Offender next) {
+            return new Offender(
+                    endpoint,
+                    Math.max(statements, next.statements),
+                    Math.max(entitiesLoaded, next.entitiesLoaded),
+                    Math.max(jdbcMillis, next.jdbcMillis),
+                    breaches + next.breaches,
+                    next.lastSeen
+            );
+        }
+    }
+}
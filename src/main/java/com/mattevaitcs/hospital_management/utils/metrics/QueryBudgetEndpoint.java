@@ -0,0 +1,26 @@
+package com.mattevaitcs.hospital_management.utils.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "querybudget")
+public class QueryBudgetEndpoint {
+    private final QueryBudget queryBudget;
+
+    @ReadOperation
+    public List<QueryBudget.Offender> offenders() {
+        return queryBudget.worstOffenders();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryBudget.reset();
+    }
+}
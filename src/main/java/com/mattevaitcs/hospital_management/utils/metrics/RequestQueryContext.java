@@ -0,0 +1,67 @@
+package com.mattevaitcs.hospital_management.utils.metrics;
+
+import com.mattevaitcs.hospital_management.exceptions.QueryBudgetExceededException;
+
+/*
+ * Per-request tally of SQL statements, entity loads and JDBC execution time. It lives
+ * in a ThreadLocal opened by RequestQueryMetricsFilter; work on other threads is not
+ * attributed. When a statement limit is set, the statement past it is refused.
+ */
+public final class RequestQueryContext {
+    private static final ThreadLocal<RequestQueryContext> CURRENT = new ThreadLocal<>();
+
+    private final int statementLimit;
+    private int statements;
+    private int entitiesLoaded;
+    private long jdbcNanos;
+
+    private RequestQueryContext(int statementLimit) {
+        this.statementLimit = statementLimit;
+    }
+
+    public static RequestQueryContext begin() {
+        return begin(Integer.MAX_VALUE);
+    }
+
+    public static RequestQueryContext begin(int statementLimit) {
+        RequestQueryContext context = new RequestQueryContext(statementLimit);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static RequestQueryContext current() {
+        return CURRENT.get();
+    }
+
+    public void end() {
+        CURRENT.remove();
+    }
+
+    void statementPrepared() {
+        statements++;
+        if (statements > statementLimit) {
+            throw new QueryBudgetExceededException(
+                    "Request exceeded its budget of " + statementLimit + " SQL statements");
+        }
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void jdbcExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mattevaitcs.hospital_management.utils.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCountingInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        RequestQueryContext context = RequestQueryContext.current();
+        if (context != null) {
+            context.statementPrepared();
+        }
+        return sql;
+    }
+}
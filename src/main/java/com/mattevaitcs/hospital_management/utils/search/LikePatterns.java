@@ -0,0 +1,13 @@
+package com.mattevaitcs.hospital_management.utils.search;
+
+/*
+ * Escapes user input for the LIKE ... ESCAPE '\' predicates in the repositories,
+ * so %, _ and \ match themselves instead of acting as wildcards.
+ */
+public class LikePatterns {
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
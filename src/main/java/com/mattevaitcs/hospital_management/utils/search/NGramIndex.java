@@ -0,0 +1,220 @@
+package com.mattevaitcs.hospital_management.utils.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Inverted index from trigrams (plus one- and two-character word prefixes for
+ * short type-ahead input) to document ids. Candidates from the posting lists
+ * are verified against the stored text, so results are exact substring matches
+ * ranked exact > prefix > substring. Reads share a lock; updates are exclusive.
+ */
+public class NGramIndex<T> {
+    private static final int GRAM_LENGTH = 3;
+    private static final String PREFIX_MARKER = "^";
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Document<T>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long postingCount;
+
+    public void put(long id, T value, String label, List<String> fields) {
+        List<String> normalized = fields.stream()
+                .filter(field -> field != null && !field.isBlank())
+                .map(field -> field.strip().toLowerCase())
+                .toList();
+        Set<String> grams = new HashSet<>();
+        normalized.forEach(field -> addGrams(field, grams));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            documents.put(id, new Document<>(value, label, normalized, grams));
+            for (String gram : grams) {
+                if(postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id)) {
+                    postingCount++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            postingCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<T> search(String query, int limit) {
+        String term = query == null ? "" : query.strip().toLowerCase();
+        if(term.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<String> queryGrams = term.length() < GRAM_LENGTH
+                ? List.of(PREFIX_MARKER + term)
+                : gramsOf(term);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = intersect(queryGrams);
+            List<Match<T>> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                Document<T> document = documents.get(id);
+                int rank = document.rank(term);
+                if(rank >= 0) {
+                    matches.add(new Match<>(rank, document.label(), document.value()));
+                }
+            }
+            return matches.stream()
+                    .sorted(Comparator.comparingInt((Match<T> match) -> match.rank())
+                            .thenComparing(Match::label))
+                    .limit(limit)
+                    .map(Match::value)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingCount() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rough heap estimate: hash entries for every posting and gram, plus the stored text per document
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long textBytes = documents.values().stream()
+                    .mapToLong(document -> document.fields().stream().mapToLong(field -> 40L + field.length()).sum()
+                            + 48L * document.grams().size())
+                    .sum();
+            return postingCount * 48L + postings.size() * 96L + documents.size() * 96L + textBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Document<T> previous = documents.remove(id);
+        if(previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            Set<Long> ids = postings.get(gram);
+            if(ids != null && ids.remove(id)) {
+                postingCount--;
+                if(ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private Set<Long> intersect(List<String> queryGrams) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if(ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static void addGrams(String field, Set<String> grams) {
+        grams.addAll(gramsOf(field));
+        for (String word : field.split("\\s+")) {
+            for (int length = 1; length < GRAM_LENGTH && length <= word.length(); length++) {
+                grams.add(PREFIX_MARKER + word.substring(0, length));
+            }
+        }
+        // Short query against the start of the whole field, e.g. "j" for "jo ann"
+        for (int length = 1; length < GRAM_LENGTH && length <= field.length(); length++) {
+            grams.add(PREFIX_MARKER + field.substring(0, length));
+        }
+    }
+
+    private static List<String> gramsOf(String text) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private record Document<T>(T value, String label, List<String> fields, Set<String> grams) {
+        int rank(String term) {
+            int best = -1;
+            for (String field : fields) {
+                int rank;
+                if(field.equals(term)) {
+                    rank = 0;
+                } else if(field.startsWith(term) || field.contains(" " + term)) {
+                    rank = 1;
+                } else if(term.length() >= GRAM_LENGTH && field.contains(term)) {
+                    rank = 2;
+                } else {
+                    continue;
+                }
+                if(best < 0 || rank < best) {
+                    best = rank;
+                }
+            }
+            return best;
+        }
+    }
+
+    private record Match<T>(int rank, String label, T value) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.mattevaitcs.hospital_management.utils.search;
+
+import com.mattevaitcs.hospital_management.services.DirectorySearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.in-memory.enabled", havingValue = "true")
+@Endpoint(id = "searchindex")
+public class SearchIndexEndpoint {
+    private final DirectorySearchService directorySearchService;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return directorySearchService.statistics();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        directorySearchService.rebuild();
+        return directorySearchService.statistics();
+    }
+}
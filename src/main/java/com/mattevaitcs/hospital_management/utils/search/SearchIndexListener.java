@@ -0,0 +1,64 @@
+package com.mattevaitcs.hospital_management.utils.search;
+
+import com.mattevaitcs.hospital_management.entities.Doctor;
+import com.mattevaitcs.hospital_management.entities.Patient;
+import com.mattevaitcs.hospital_management.services.DirectorySearchService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/*
+ * JPA listener on Patient and Doctor that feeds DirectorySearchService. Changes
+ * are applied after commit so a rolled back write never reaches the index.
+ * Does nothing when the in-memory search is disabled.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+    private final ObjectProvider<DirectorySearchService> directorySearchService;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if(entity instanceof Patient patient) {
+            afterCommit(service -> service.index(patient));
+        } else if(entity instanceof Doctor doctor) {
+            afterCommit(service -> service.index(doctor));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if(entity instanceof Patient patient) {
+            long id = patient.getId();
+            afterCommit(service -> service.removePatient(id));
+        } else if(entity instanceof Doctor doctor) {
+            long id = doctor.getId();
+            afterCommit(service -> service.removeDoctor(id));
+        }
+    }
+
+    private void afterCommit(Consumer<DirectorySearchService> change) {
+        DirectorySearchService service = directorySearchService.getIfAvailable();
+        if(service == null) {
+            return;
+        }
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.accept(service);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.accept(service);
+            }
+        });
+    }
+}
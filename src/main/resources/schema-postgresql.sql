@@ -0,0 +1,24 @@
+-- Runs after Hibernate has created the tables (spring.jpa.defer-datasource-initialization)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Trigram indexes let LOWER(col) LIKE '%term%' use a bitmap index scan instead of a sequential scan
+CREATE INDEX IF NOT EXISTS idx_eva_patients_fname_trgm ON eva_patients USING gin (lower(fname) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_eva_patients_lname_trgm ON eva_patients USING gin (lower(lname) gin_trgm_ops);
+
+-- Functional indexes matching the LOWER(...) predicates in DoctorRepository
+CREATE INDEX IF NOT EXISTS idx_eva_doctors_department_last_name ON eva_doctors (lower(department), lower(last_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_eva_doctors_last_name ON eva_doctors (lower(last_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_eva_doctors_specialization ON eva_doctors (lower(specialization));
+
+-- Migration from IDENTITY ids: make sure each pooled sequence hands out blocks above the
+-- highest id already stored. Idempotent, so it is safe on every startup.
+CREATE SEQUENCE IF NOT EXISTS eva_patients_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS eva_doctors_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS eva_appointments_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('eva_patients_seq', GREATEST((SELECT last_value FROM eva_patients_seq), (SELECT COALESCE(MAX(id), 0) FROM eva_patients) + 50));
+SELECT setval('eva_doctors_seq', GREATEST((SELECT last_value FROM eva_doctors_seq), (SELECT COALESCE(MAX(id), 0) FROM eva_doctors) + 50));
+SELECT setval('eva_appointments_seq', GREATEST((SELECT last_value FROM eva_appointments_seq), (SELECT COALESCE(MAX(id), 0) FROM eva_appointments) + 50));
+
+-- Backstop for AppointmentSlotEngine: one live appointment per doctor and slot.
+-- Cancelled rows (status ordinal 2) are excluded so a cancelled slot can be rebooked.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_eva_appointments_doctor_slot ON eva_appointments (doctor_id, date, time) WHERE status <> 2;
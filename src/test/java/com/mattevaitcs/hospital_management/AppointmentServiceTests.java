@@ -0,0 +1,109 @@
+package com.mattevaitcs.hospital_management;
+
+import com.mattevaitcs.hospital_management.dtos.AppointmentInformation;
+import com.mattevaitcs.hospital_management.entities.Appointment;
+import com.mattevaitcs.hospital_management.entities.Doctor;
+import com.mattevaitcs.hospital_management.entities.Patient;
+import com.mattevaitcs.hospital_management.entities.enums.BiologicalSex;
+import com.mattevaitcs.hospital_management.entities.enums.HospitalRole;
+import com.mattevaitcs.hospital_management.entities.enums.Status;
+import com.mattevaitcs.hospital_management.services.AppointmentService;
+import com.mattevaitcs.hospital_management.utils.metrics.QueryBudget;
+import com.mattevaitcs.hospital_management.utils.metrics.RequestQueryContext;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "query-budget.mode=REJECT",
+        "query-budget.max-statements=6"
+})
+@Transactional
+class AppointmentServiceTests {
+    private static final int APPOINTMENTS = 30;
+    private static final int MAX_STATEMENTS = 6;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @Test
+    void testGetAppointmentsByDoctorIdShouldUseBoundedStatements() {
+        Doctor doctor = newDoctor("Gregory", "House");
+        Doctor otherDoctor = newDoctor("James", "Wilson");
+        entityManager.persist(doctor);
+        entityManager.persist(otherDoctor);
+
+        for (int i = 0; i < APPOINTMENTS; i++) {
+            Patient patient = new Patient(
+                    0,
+                    "Patient" + i,
+                    "Tester",
+                    LocalDate.of(1990, 1, 1),
+                    BiologicalSex.FEMALE,
+                    "9072728359",
+                    "123 String St",
+                    List.of("None"),
+                    i % 2 == 0 ? doctor : otherDoctor,
+                    null
+            );
+            entityManager.persist(patient);
+            entityManager.persist(Appointment.builder()
+                    .patient(patient)
+                    .doctor(doctor)
+                    .date(LocalDate.now().plusDays(i))
+                    .time(LocalTime.of(9, 0))
+                    .status(Status.BOOKED)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // Fails at the first statement past the budget, like a request would
+        RequestQueryContext context = RequestQueryContext.begin(queryBudget.statementLimit());
+        List<AppointmentInformation> appointments;
+        try {
+            appointments = appointmentService.getAppointmentsById(doctor.getId(), HospitalRole.STAFF);
+        } finally {
+            context.end();
+        }
+
+        assertEquals(APPOINTMENTS, appointments.size());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+                "Expected at most " + MAX_STATEMENTS + " statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    private Doctor newDoctor(String firstName, String lastName) {
+        return Doctor.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .department("Princeton-Plainsboro")
+                .phone("9072728359")
+                .specialization("Nephrology")
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.mattevaitcs.hospital_management;
+
+import com.mattevaitcs.hospital_management.exceptions.InvalidAppointmentSlotException;
+import com.mattevaitcs.hospital_management.repositories.AppointmentRepository;
+import com.mattevaitcs.hospital_management.repositories.DoctorRepository;
+import com.mattevaitcs.hospital_management.services.AppointmentSlotEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AppointmentSlotEngineTests {
+    private static final LocalDate DATE = LocalDate.now().plusDays(7);
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    private AppointmentSlotEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AppointmentSlotEngine(appointmentRepository, doctorRepository);
+        ReflectionTestUtils.setField(engine, "slotMinutes", 30);
+        ReflectionTestUtils.setField(engine, "lockStripes", 8);
+        ReflectionTestUtils.setField(engine, "dayStart", "08:00");
+        ReflectionTestUtils.setField(engine, "dayEnd", "18:00");
+        ReflectionTestUtils.invokeMethod(engine, "init");
+    }
+
+    @Test
+    void testConcurrentReservationsShouldGrantSlotOnce() throws Exception {
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return engine.reserve(1, DATE, NINE);
+                }));
+            }
+            start.countDown();
+            int granted = 0;
+            for (Future<Boolean> result : results) {
+                granted += result.get() ? 1 : 0;
+            }
+            assertEquals(1, granted);
+        }
+        assertFalse(engine.isAvailable(1, DATE, NINE));
+        assertTrue(engine.isAvailable(2, DATE, NINE));
+    }
+
+    @Test
+    void testReleasedSlotShouldBeBookableAgain() {
+        assertTrue(engine.reserve(1, DATE, NINE));
+        engine.release(1, DATE, NINE);
+
+        assertTrue(engine.isAvailable(1, DATE, NINE));
+        assertTrue(engine.reserve(1, DATE, NINE));
+    }
+
+    @Test
+    void testFindFreeSlotsShouldReturnEarliestRunsAcrossDoctors() {
+        assertTrue(engine.reserve(1, DATE, NINE));
+
+        List<AppointmentSlotEngine.FreeSlot> slots = engine.findFreeSlots(
+                List.of(1L, 2L), DATE, DATE.plusDays(1), 2, DATE.atStartOfDay(), 3);
+
+        assertEquals(List.of(
+                new AppointmentSlotEngine.FreeSlot(1, DATE, LocalTime.of(8, 0)),
+                new AppointmentSlotEngine.FreeSlot(2, DATE, LocalTime.of(8, 0)),
+                new AppointmentSlotEngine.FreeSlot(2, DATE, LocalTime.of(8, 30))
+        ), slots);
+    }
+
+    @Test
+    void testOffGridTimeShouldBeRejected() {
+        assertThrows(InvalidAppointmentSlotException.class, () -> engine.reserve(1, DATE, LocalTime.of(9, 10)));
+    }
+
+    @Test
+    void testOutOfHoursMissingOrPastDateShouldBeRejected() {
+        assertThrows(InvalidAppointmentSlotException.class, () -> engine.reserve(1, DATE, LocalTime.of(7, 30)));
+        assertThrows(InvalidAppointmentSlotException.class, () -> engine.reserve(1, LocalDate.now().minusDays(1), NINE));
+        assertThrows(InvalidAppointmentSlotException.class, () -> engine.reserve(1, DATE, LocalTime.of(18, 0)));
+        assertThrows(InvalidAppointmentSlotException.class, () -> engine.reserve(1, null, NINE));
+        assertTrue(engine.reserve(1, DATE, LocalTime.of(17, 30)));
+    }
+}
@@ -0,0 +1,294 @@
+package com.mattevaitcs.hospital_management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mattevaitcs.hospital_management.dtos.AuthRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Replays a weighted hospital traffic mix against the embedded app (dev profile on
+ * in-memory H2, seeded by HospitalManagementApplication)
+ * and writes a per-endpoint latency/throughput/error report. Excluded from the default
+ * build, run it with: mvn -Ploadtest test
+ * Tunables are system properties: loadtest.duration-seconds, loadtest.concurrency,
+ * loadtest.seed, loadtest.max-error-rate and loadtest.report.
+ */
+@Tag("loadtest")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.sql.init.mode=never",
+                "spring.jpa.show-sql=false"
+        }
+)
+class LoadTests {
+    private static final String EMAIL = "admin@horrorcore.com";
+    private static final String PASSWORD = "Gudmord92!";
+
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+    private final long seed = Long.getLong("loadtest.seed", 42L);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    private final Path reportPath = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    private String token;
+    private List<Long> patientIds;
+    private List<Long> doctorIds;
+
+    @Test
+    void testWeightedTrafficMixShouldStayUnderErrorBudget() throws Exception {
+        token = login();
+        patientIds = ids(get("/api/v1/patient/?size=100"), "patients");
+        doctorIds = ids(get("/api/v1/doctor/?includePatients=false"), null);
+        assertFalse(patientIds.isEmpty(), "Load test needs seeded patients");
+        assertFalse(doctorIds.isEmpty(), "Load test needs seeded doctors");
+
+        List<Operation> mix = List.of(
+                new Operation("GET /api/v1/patient/", 30, random -> send("GET /api/v1/patient/",
+                        request("/api/v1/patient/?size=20").GET())),
+                new Operation("GET /api/v1/patient/{id}", 25, random -> send("GET /api/v1/patient/{id}",
+                        request("/api/v1/patient/" + pick(patientIds, random)).GET())),
+                new Operation("GET /api/v1/doctor/", 10, random -> send("GET /api/v1/doctor/",
+                        request("/api/v1/doctor/").GET())),
+                new Operation("GET /api/v1/doctor/{id}", 10, random -> send("GET /api/v1/doctor/{id}",
+                        request("/api/v1/doctor/" + pick(doctorIds, random)).GET())),
+                new Operation("POST /api/v1/appointment/", 10, random -> send("POST /api/v1/appointment/",
+                        request("/api/v1/appointment/")
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(bookingBody(random))))),
+                new Operation("GET /api/v1/appointment/doctor/{id}", 10, random -> send("GET /api/v1/appointment/doctor/{id}",
+                        request("/api/v1/appointment/doctor/" + pick(doctorIds, random)).GET())),
+                new Operation("GET /api/v1/appointment/patient/{id}", 5, random -> send("GET /api/v1/appointment/patient/{id}",
+                        request("/api/v1/appointment/patient/" + pick(patientIds, random)).GET()))
+        );
+        int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            Random random = new Random(seed + worker);
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    int roll = random.nextInt(totalWeight);
+                    for (Operation operation : mix) {
+                        roll -= operation.weight();
+                        if (roll < 0) {
+                            operation.action().run(random);
+                            break;
+                        }
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS), "Workers did not finish");
+
+        Report report = report();
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportPath.toFile(), report);
+
+        assertTrue(report.totalRequests() > 0, "No requests were issued");
+        for (EndpointReport endpoint : report.endpoints()) {
+            assertTrue(endpoint.errorRate() <= maxErrorRate,
+                    endpoint.endpoint() + " error rate " + endpoint.errorRate() + " exceeds " + maxErrorRate);
+        }
+    }
+
+    private String login() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                objectMapper.writeValueAsString(new AuthRequest(EMAIL, PASSWORD))))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertTrue(response.statusCode() == 200, "Login failed with status " + response.statusCode());
+        return response.body();
+    }
+
+    private JsonNode get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    private List<Long> ids(JsonNode body, String field) {
+        JsonNode items = field == null ? body : body.path(field);
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.path("id").asLong()));
+        return ids;
+    }
+
+    private String bookingBody(Random random) {
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(60));
+        LocalTime time = LocalTime.of(8, 0).plusMinutes(30L * random.nextInt(18));
+        return "{\"patientId\":" + pick(patientIds, random)
+                + ",\"doctorId\":" + pick(doctorIds, random)
+                + ",\"date\":\"" + date
+                + "\",\"time\":\"" + time + "\"}";
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void send(String endpoint, HttpRequest.Builder builder) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        endpointStats.record(System.nanoTime() - start, status);
+    }
+
+    private static long pick(List<Long> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private Report report() {
+        List<EndpointReport> endpoints = stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toReport(entry.getKey(), durationSeconds))
+                .toList();
+        long total = endpoints.stream().mapToLong(EndpointReport::requests).sum();
+        long errors = endpoints.stream().mapToLong(EndpointReport::errors).sum();
+        return new Report(
+                durationSeconds,
+                concurrency,
+                seed,
+                total,
+                (double) total / durationSeconds,
+                total == 0 ? 0 : (double) errors / total,
+                endpoints
+        );
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run(Random random);
+    }
+
+    private record Operation(String endpoint, int weight, Action action) {
+    }
+
+    /* 4xx responses are counted as rejections (e.g. validation), only 5xx and I/O failures as errors. */
+    private static final class EndpointStats {
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, int status) {
+            latencies.add(nanos);
+            if (status < 0 || status >= 500) {
+                errors.increment();
+            } else if (status >= 400) {
+                rejected.increment();
+            }
+        }
+
+        EndpointReport toReport(String endpoint, int durationSeconds) {
+            long[] sorted;
+            synchronized (latencies) {
+                sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            long requests = sorted.length;
+            return new EndpointReport(
+                    endpoint,
+                    requests,
+                    rejected.sum(),
+                    errors.sum(),
+                    requests == 0 ? 0 : (double) errors.sum() / requests,
+                    (double) requests / durationSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0
+            );
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    record EndpointReport(
+            String endpoint,
+            long requests,
+            long rejected,
+            long errors,
+            double errorRate,
+            double throughputPerSecond,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+    }
+
+    record Report(
+            int durationSeconds,
+            int concurrency,
+            long seed,
+            long totalRequests,
+            double throughputPerSecond,
+            double errorRate,
+            List<EndpointReport> endpoints
+    ) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.mattevaitcs.hospital_management;
+
+import com.mattevaitcs.hospital_management.config.BoundedPasswordEncoder;
+import com.mattevaitcs.hospital_management.config.CachingPasswordEncoder;
+import com.mattevaitcs.hospital_management.exceptions.GlobalExceptionHandler;
+import com.mattevaitcs.hospital_management.exceptions.PasswordHashingUnavailableException;
+import com.mattevaitcs.hospital_management.exceptions.dtos.ApiError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PasswordEncoderTests {
+    @Mock
+    private PasswordEncoder delegate;
+
+    @Test
+    void testCachingPasswordEncoderRepeatedMatchShouldSkipDelegate() {
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, 60_000, 10);
+        when(delegate.matches("secret", "$2a$10$hash")).thenReturn(true);
+
+        assertTrue(encoder.matches("secret", "$2a$10$hash"));
+        assertTrue(encoder.matches("secret", "$2a$10$hash"));
+
+        verify(delegate, times(1)).matches("secret", "$2a$10$hash");
+    }
+
+    @Test
+    void testCachingPasswordEncoderFailedMatchShouldNotBeCached() {
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, 60_000, 10);
+        when(delegate.matches("wrong", "$2a$10$hash")).thenReturn(false);
+
+        assertFalse(encoder.matches("wrong", "$2a$10$hash"));
+        assertFalse(encoder.matches("wrong", "$2a$10$hash"));
+
+        verify(delegate, times(2)).matches("wrong", "$2a$10$hash");
+    }
+
+    @Test
+    void testBoundedPasswordEncoderFullQueueShouldRejectNextCall() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, 7, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.matches("secret", "$2a$10$hash")).thenAnswer(invocation -> {
+            running.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        });
+        try {
+            // One call occupies the only thread, the next one fills the queue
+            CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> encoder.matches("secret", "$2a$10$hash"));
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("secret", "$2a$10$hash"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < 1) {
+                assertTrue(System.nanoTime() < deadline, "Second call was never queued");
+                Thread.sleep(5);
+            }
+
+            PasswordHashingUnavailableException exception = assertThrows(
+                    PasswordHashingUnavailableException.class,
+                    () -> encoder.matches("secret", "$2a$10$hash"));
+            assertEquals(7, exception.getRetryAfterSeconds());
+
+            release.countDown();
+            assertTrue(first.get(10, TimeUnit.SECONDS));
+            assertTrue(queued.get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void testPasswordHashingUnavailableShouldMapToServiceUnavailableWithRetryAfter() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+
+        ResponseEntity<ApiError> response = new GlobalExceptionHandler().exceptionHandler(
+                new PasswordHashingUnavailableException("Too many concurrent sign-in requests", 7), request);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("7", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getBody().statusCode());
+        assertEquals("/api/v1/auth/login", response.getBody().requestUrl());
+    }
+}
@@ -0,0 +1,73 @@
+package com.mattevaitcs.hospital_management;
+
+import com.mattevaitcs.hospital_management.exceptions.QueryBudgetExceededException;
+import com.mattevaitcs.hospital_management.utils.metrics.QueryBudget;
+import com.mattevaitcs.hospital_management.utils.metrics.RequestQueryContext;
+import com.mattevaitcs.hospital_management.utils.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryBudgetTests {
+    private final StatementCountingInspector inspector = new StatementCountingInspector();
+    private QueryBudget queryBudget;
+
+    @BeforeEach
+    void setUp() {
+        queryBudget = new QueryBudget(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(queryBudget, "mode", QueryBudget.Mode.REJECT);
+        ReflectionTestUtils.setField(queryBudget, "maxStatements", 3);
+        ReflectionTestUtils.setField(queryBudget, "maxJdbcMillis", 500L);
+        ReflectionTestUtils.setField(queryBudget, "offenderLimit", 10);
+        ReflectionTestUtils.setField(queryBudget, "exempt", List.of("/api/v1/patient/bulk", "/actuator/**"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryContext current = RequestQueryContext.current();
+        if (current != null) {
+            current.end();
+        }
+    }
+
+    @Test
+    void testRejectModeShouldRefuseStatementPastBudget() {
+        RequestQueryContext context = RequestQueryContext.begin(queryBudget.statementLimit());
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect("select 1");
+        }
+
+        assertThrows(QueryBudgetExceededException.class, () -> inspector.inspect("select 1"));
+
+        context.end();
+        queryBudget.evaluate("GET /api/v1/doctor/", context);
+        List<QueryBudget.Offender> offenders = queryBudget.worstOffenders();
+        assertEquals(1, offenders.size());
+        assertEquals("GET /api/v1/doctor/", offenders.getFirst().endpoint());
+        assertEquals(4, offenders.getFirst().statements());
+    }
+
+    @Test
+    void testRequestWithinBudgetShouldNotBeRecorded() {
+        RequestQueryContext context = RequestQueryContext.begin(queryBudget.statementLimit());
+        inspector.inspect("select 1");
+        context.end();
+
+        queryBudget.evaluate("GET /api/v1/patient/{id}", context);
+
+        assertTrue(queryBudget.worstOffenders().isEmpty());
+    }
+
+    @Test
+    void testExemptPathsShouldMatchConfiguredPatterns() {
+        assertTrue(queryBudget.isExempt("/api/v1/patient/bulk"));
+        assertTrue(queryBudget.isExempt("/actuator/prometheus"));
+        assertFalse(queryBudget.isExempt("/api/v1/patient/"));
+    }
+}